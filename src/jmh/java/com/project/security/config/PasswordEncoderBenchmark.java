@@ -0,0 +1,38 @@
+package com.project.security.config;
+
+import com.project.security.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// PasswordEncoderConfig.passwordEncoder() (DelegatingPasswordEncoder) 비밀번호 검증 벤치마크
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "password1234";
+
+    private PasswordEncoder passwordEncoder;
+
+    private String encodedPassword;
+
+    @Setup
+    public void setup() {
+        passwordEncoder = new PasswordEncoderConfig().passwordEncoder(BcryptCalibration.MIN_STRENGTH, 0, new AuthMetrics(new SimpleMeterRegistry()));
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean matchesThreads4() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
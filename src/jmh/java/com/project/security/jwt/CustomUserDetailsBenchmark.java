@@ -0,0 +1,32 @@
+package com.project.security.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+// CustomUserDetails 권한 정보 변환 벤치마크
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomUserDetailsBenchmark {
+
+    private CustomUserDetails userDetails;
+
+    @Setup
+    public void setup() {
+        userDetails = new CustomUserDetails(JwtBenchmarkFixtures.member());
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return userDetails.getAuthorities();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Collection<? extends GrantedAuthority> getAuthoritiesThreads4() {
+        return userDetails.getAuthorities();
+    }
+}
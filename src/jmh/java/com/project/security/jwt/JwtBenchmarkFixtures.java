@@ -0,0 +1,70 @@
+package com.project.security.jwt;
+
+import com.project.security.entity.Authority;
+import com.project.security.entity.Member;
+import com.project.security.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+// Spring Context 없이 벤치마크 대상 객체를 구성
+public final class JwtBenchmarkFixtures {
+
+    public static final String SECRET = "x!A%D*G-KaPdSgVkYp3s5v8y/B?E(H+M";
+
+    public static final String EMAIL = "bench@example.com";
+
+    private JwtBenchmarkFixtures() {
+    }
+
+    public static List<Authority> roles() {
+        return Collections.singletonList(Authority.builder().name("ROLE_USER").build());
+    }
+
+    public static Member member() {
+        Member member = Member.builder()
+                .id(1L)
+                .email(EMAIL)
+                .password("{noop}password")
+                .nickname("bench")
+                .build();
+        member.setRoles(roles());
+        return member;
+    }
+
+    public static AuthMetrics authMetrics() {
+        return new AuthMetrics(new SimpleMeterRegistry());
+    }
+
+    // DB 조회 대신 고정된 Member를 반환하는 CustomUserDetailsService
+    public static CustomUserDetailsService stubUserDetailsService() {
+        CustomUserDetails userDetails = new CustomUserDetails(member());
+        return new CustomUserDetailsService(null, null, authMetrics()) {
+            @Override
+            public UserDetails loadUserByUsername(String username) {
+                return userDetails;
+            }
+        };
+    }
+
+    // 설정된 Key가 없는 경우 기존 HS256 Key로 서명
+    public static JwtKeyRing keyRing() {
+        return new JwtKeyRing(new JwtKeyProperties(), SECRET);
+    }
+
+    public static JwtProvider jwtProvider(boolean stateless, int verifiedCacheMaxSize) {
+        return jwtProvider(stateless, verifiedCacheMaxSize, false);
+    }
+
+    public static JwtProvider jwtProvider(boolean stateless, int verifiedCacheMaxSize, boolean compact) {
+        JwtProvider jwtProvider = new JwtProvider(stubUserDetailsService(), authMetrics(), keyRing());
+        ReflectionTestUtils.setField(jwtProvider, "compact", compact);
+        ReflectionTestUtils.setField(jwtProvider, "stateless", stateless);
+        ReflectionTestUtils.setField(jwtProvider, "verifiedCacheMaxSize", verifiedCacheMaxSize);
+        jwtProvider.init();
+        return jwtProvider;
+    }
+}
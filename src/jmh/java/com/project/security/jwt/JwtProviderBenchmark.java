@@ -0,0 +1,87 @@
+package com.project.security.jwt;
+
+import com.project.security.entity.Authority;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JwtProvider Token 생성, 검증, 인증 정보 조회 벤치마크
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtProviderBenchmark {
+
+    // 0: 검증 캐시 미사용, 10000: 검증 캐시 사용
+    @Param({"0", "10000"})
+    private int verifiedCacheMaxSize;
+
+    private JwtProvider jwtProvider;
+
+    private JwtProvider statelessJwtProvider;
+
+    private List<Authority> roles;
+
+    private String token;
+
+    private String bearerToken;
+
+    @Setup
+    public void setup() {
+        jwtProvider = JwtBenchmarkFixtures.jwtProvider(false, verifiedCacheMaxSize);
+        statelessJwtProvider = JwtBenchmarkFixtures.jwtProvider(true, verifiedCacheMaxSize);
+        roles = JwtBenchmarkFixtures.roles();
+    }
+
+    // Access Token 만료시간(60초)이 측정 시간보다 짧으므로 반복(iteration)마다 새로 발급
+    @Setup(Level.Iteration)
+    public void issueToken() {
+        token = jwtProvider.createToken(JwtBenchmarkFixtures.EMAIL, roles);
+        bearerToken = "Bearer " + token;
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtProvider.createToken(JwtBenchmarkFixtures.EMAIL, roles);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(bearerToken);
+    }
+
+    @Benchmark
+    public String getEmail() {
+        return jwtProvider.getEmail(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthenticationStateless() {
+        return statelessJwtProvider.getAuthentication(token);
+    }
+
+    // 다중 스레드 경합 상황
+    @Benchmark
+    @Threads(4)
+    public String createTokenThreads4() {
+        return jwtProvider.createToken(JwtBenchmarkFixtures.EMAIL, roles);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean validateTokenThreads4() {
+        return jwtProvider.validateToken(bearerToken);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Authentication getAuthenticationThreads4() {
+        return jwtProvider.getAuthentication(token);
+    }
+}
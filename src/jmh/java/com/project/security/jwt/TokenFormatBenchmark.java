@@ -0,0 +1,57 @@
+package com.project.security.jwt;
+
+import com.project.security.entity.Authority;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 기존 Claim 형식과 축약 Claim 형식의 Token 크기, 발급/검증 시간 비교
+// Token 크기는 Trial 시작 시 출력 (Authorization Header 값 기준)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenFormatBenchmark {
+
+    // false: 기존 형식, true: 축약 형식
+    @Param({"false", "true"})
+    private boolean compact;
+
+    private JwtProvider jwtProvider;
+
+    private List<Authority> roles;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        // 검증 캐시를 사용하지 않아야 매번 서명 검증과 Claim 해석 시간이 측정됨
+        jwtProvider = JwtBenchmarkFixtures.jwtProvider(true, 0, compact);
+        roles = List.of(Authority.builder().name("ROLE_USER").build(), Authority.builder().name("ROLE_ADMIN").build());
+        String sample = jwtProvider.createToken(JwtBenchmarkFixtures.EMAIL, roles);
+        System.out.printf("%n[token size] compact=%s token=%d bytes, Authorization header=%d bytes%n",
+                compact, sample.length(), ("Bearer " + sample).length());
+    }
+
+    // Access Token 만료시간(60초)이 측정 시간보다 짧으므로 반복(iteration)마다 새로 발급
+    @Setup(Level.Iteration)
+    public void issueToken() {
+        token = jwtProvider.createToken(JwtBenchmarkFixtures.EMAIL, roles);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtProvider.createToken(JwtBenchmarkFixtures.EMAIL, roles);
+    }
+
+    @Benchmark
+    public TokenInspection inspect() {
+        return jwtProvider.inspect(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthenticationStateless() {
+        return jwtProvider.getAuthentication(token);
+    }
+}
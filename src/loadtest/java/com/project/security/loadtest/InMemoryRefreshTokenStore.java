@@ -0,0 +1,67 @@
+package com.project.security.loadtest;
+
+import com.project.security.repository.RefreshTokenStore;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Redis 대신 사용하는 메모리 Refresh Token 저장소, RedisRefreshTokenStore와 같은 만료/연장 동작
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<Long, Entry> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(Long memberId, String refreshToken, long ttlSeconds) {
+        tokens.put(memberId, new Entry(refreshToken, System.currentTimeMillis() + ttlSeconds * 1000L));
+    }
+
+    @Override
+    public void saveAll(Map<Long, String> refreshTokens, long ttlSeconds) {
+        refreshTokens.forEach((memberId, refreshToken) -> save(memberId, refreshToken, ttlSeconds));
+    }
+
+    @Override
+    public Result verifyAndExtend(Long memberId, String refreshToken, long extendBelowSeconds, long extendToSeconds) {
+        Result[] result = new Result[1];
+        tokens.compute(memberId, (id, entry) -> {
+            long now = System.currentTimeMillis();
+            if (entry == null || entry.expiresAt <= now) {
+                result[0] = Result.NOT_FOUND;
+                return null;
+            }
+            if (!entry.value.equals(refreshToken)) {
+                result[0] = Result.MISMATCH;
+                return entry;
+            }
+            result[0] = Result.VALID;
+            if (entry.expiresAt - now < extendBelowSeconds * 1000L) {
+                return new Entry(entry.value, now + extendToSeconds * 1000L);
+            }
+            return entry;
+        });
+        return result[0];
+    }
+
+    @Override
+    public void delete(Long memberId) {
+        tokens.remove(memberId);
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> memberIds) {
+        memberIds.forEach(tokens::remove);
+    }
+
+    private static final class Entry {
+
+        private final String value;
+
+        private final long expiresAt;
+
+        private Entry(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.security.loadtest;
+
+import com.project.security.repository.ReactiveRefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+// loadtest 프로필 전용 대체 Bean, Redis 대신 메모리 저장소 사용 (token.store: mapped인 경우 파일 매핑 저장소를 그대로 사용)
+// MySQL은 application-loadtest.yml의 H2, 그 외 Redis 기능(Token 폐기, 캐시 무효화, 전역 요청 수 제한)은 설정으로 비활성화
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "token.store", havingValue = "redis", matchIfMissing = true)
+    public InMemoryRefreshTokenStore inMemoryRefreshTokenStore() {
+        return new InMemoryRefreshTokenStore();
+    }
+
+    // WebFlux 실행 시 사용, 메모리 저장소는 blocking 호출이 없으므로 그대로 감싸서 사용
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "token.store", havingValue = "redis", matchIfMissing = true)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveRefreshTokenStore inMemoryReactiveRefreshTokenStore(InMemoryRefreshTokenStore store) {
+        return ReactiveRefreshTokenStore.of(store);
+    }
+}
@@ -0,0 +1,279 @@
+package com.project.security.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.security.SecurityApplication;
+import com.project.security.jwt.JwtKey;
+import com.project.security.jwt.JwtKeyRing;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 HTTP 흐름 부하 테스트 (./gradlew loadTest)
+ * loadtest 프로필(H2, 메모리 Refresh Token 저장소)로 애플리케이션을 임의 포트에 실행한 후 시나리오를 차례로 수행
+ * - user-get: 유효한 Access Token으로 /user/get 요청
+ * - refresh: 만료된 Access Token으로 /refresh 요청, 한 사용자가 동시에 여러 요청을 보내는 상황(expired-token storm)
+ * - login: 가입된 사용자 로그인
+ * - join: 신규 사용자 가입
+ * 시나리오별 처리량, p50/p99/p999 응답 시간을 JSON 보고서로 저장
+ * 설정은 시스템 속성(-Ploadtest.rate.login=100 등)으로 변경
+ * -Ploadtest.web-application-type=reactive로 WebFlux(Netty) 실행 방식 측정
+ */
+public final class LoadTestRunner {
+
+    private static final String PASSWORD = "password";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final HttpClient client;
+
+    private final String baseUrl;
+
+    private final JwtKeyRing keyRing;
+
+    private final List<Session> sessions = new ArrayList<>();
+
+    private final AtomicLong joinSequence = new AtomicLong();
+
+    private LoadTestRunner(HttpClient client, String baseUrl, JwtKeyRing keyRing) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.keyRing = keyRing;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = intProperty("loadtest.users", 200);
+        Duration warmup = Duration.ofSeconds(intProperty("loadtest.warmup-seconds", 3));
+        Duration duration = Duration.ofSeconds(intProperty("loadtest.duration-seconds", 10));
+        int refreshBurst = intProperty("loadtest.refresh-burst", 3);
+        int maxInFlight = intProperty("loadtest.max-in-flight", 2000);
+        double maxErrorRatio = Double.parseDouble(System.getProperty("loadtest.max-error-ratio", "1.0"));
+        String reportPath = System.getProperty("loadtest.report", "build/reports/loadtest/report.json");
+        String webApplicationType = System.getProperty("loadtest.web-application-type", "servlet");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SecurityApplication.class)
+                .profiles("loadtest")
+                .properties("server.port=0", "spring.main.web-application-type=" + webApplicationType)
+                .run(args);
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(intProperty("loadtest.client-threads", 16), r -> {
+            Thread thread = new Thread(r, "loadtest-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LoadTestRunner runner = new LoadTestRunner(client, baseUrl, context.getBean(JwtKeyRing.class));
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(client, maxInFlight);
+
+            runner.prepare(users);
+            List<ScenarioResult> results = new ArrayList<>();
+
+            runner.loginAll(); // 측정 전 Access Token 갱신
+            results.add(generator.run("user-get", rate("user-get", 500), warmup, duration, runner::userGet));
+
+            runner.loginAll();
+            results.add(generator.run("refresh", rate("refresh", 100), warmup, duration, () -> runner.refreshStorm(refreshBurst)));
+
+            results.add(generator.run("login", rate("login", 50), warmup, duration, runner::login));
+            results.add(generator.run("join", rate("join", 20), warmup, duration, runner::join));
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("timestamp", Instant.now().toString());
+            report.put("webApplicationType", webApplicationType);
+            report.put("users", users);
+            report.put("warmupSeconds", warmup.getSeconds());
+            report.put("durationSeconds", duration.getSeconds());
+            report.put("refreshBurst", refreshBurst);
+            List<Map<String, Object>> scenarios = new ArrayList<>();
+            for (ScenarioResult result : results) {
+                scenarios.add(result.toReport());
+                System.out.println(result.summary());
+            }
+            report.put("scenarios", scenarios);
+            File file = new File(reportPath);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            OBJECT_MAPPER.writeValue(file, report);
+            System.out.println("report: " + file.getAbsolutePath());
+
+            for (ScenarioResult result : results) {
+                if (result.getErrorRatio() > maxErrorRatio) {
+                    throw new IllegalStateException(String.format("%s 오류 비율 %.2f%%가 허용치 %.2f%%를 넘었습니다.",
+                            result.getName(), result.getErrorRatio() * 100, maxErrorRatio * 100));
+                }
+            }
+        } finally {
+            context.close();
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    // 측정 대상 사용자 가입 (측정 제외)
+    private void prepare(int users) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<Session>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                String email = "loadtest-" + i + "@example.com";
+                futures.add(executor.submit(() -> {
+                    expectOk(client.send(post("/join", signRequest(email)), HttpResponse.BodyHandlers.ofString()));
+                    return new Session(email);
+                }));
+            }
+            for (Future<Session> future : futures) {
+                sessions.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // 모든 사용자 로그인, Access Token과 Refresh Token 갱신 (측정 제외)
+    private void loginAll() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Session session : sessions) {
+                futures.add(executor.submit(() -> {
+                    HttpResponse<String> response = client.send(post("/login", signRequest(session.email)), HttpResponse.BodyHandlers.ofString());
+                    expectOk(response);
+                    JsonNode token = OBJECT_MAPPER.readTree(response.body()).get("token");
+                    session.accessToken = token.get("accessToken").asText();
+                    session.refreshToken = token.get("refreshToken").asText();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<HttpRequest> userGet() {
+        Session session = randomSession();
+        return Collections.singletonList(HttpRequest.newBuilder(URI.create(baseUrl + "/user/get?email=" + session.email))
+                .header("Authorization", "Bearer " + session.accessToken)
+                .GET()
+                .build());
+    }
+
+    // 만료된 Access Token으로 같은 사용자가 burst개의 재발급 요청을 동시에 전송
+    private List<HttpRequest> refreshStorm(int burst) {
+        Session session = randomSession();
+        String body = json(Map.of("accessToken", expiredToken(session.email), "refreshToken", session.refreshToken));
+        List<HttpRequest> requests = new ArrayList<>(burst);
+        for (int i = 0; i < burst; i++) {
+            requests.add(HttpRequest.newBuilder(URI.create(baseUrl + "/refresh"))
+                    .header("Content-Type", "application/json")
+                    .method("GET", HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+        }
+        return requests;
+    }
+
+    private List<HttpRequest> login() {
+        return Collections.singletonList(post("/login", signRequest(randomSession().email)));
+    }
+
+    private List<HttpRequest> join() {
+        String email = "join-" + joinSequence.incrementAndGet() + "-" + UUID.randomUUID() + "@example.com";
+        return Collections.singletonList(post("/join", signRequest(email)));
+    }
+
+    // 현재 서명 Key로 만료 시각이 지난 Access Token 생성
+    private String expiredToken(String email) {
+        JwtKey key = keyRing.signingKey();
+        long now = System.currentTimeMillis();
+        JwtBuilder builder = Jwts.builder();
+        if (key.getKid() != null) {
+            builder.setHeaderParam("kid", key.getKid());
+        }
+        return builder.setSubject(email)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date(now - 120_000))
+                .setExpiration(new Date(now - 60_000))
+                .signWith(key.getSigningKey(), key.getAlgorithm())
+                .compact();
+    }
+
+    private Session randomSession() {
+        return sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String signRequest(String email) {
+        return json(Map.of("email", email, "password", PASSWORD, "nickname", "loadtest"));
+    }
+
+    private static String json(Object value) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void expectOk(HttpResponse<?> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(response.uri() + " 요청이 실패했습니다: " + response.statusCode());
+        }
+    }
+
+    private static double rate(String scenario, double defaultRate) {
+        return Double.parseDouble(System.getProperty("loadtest.rate." + scenario, String.valueOf(defaultRate)));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    private static final class Session {
+
+        private final String email;
+
+        private volatile String accessToken;
+
+        private volatile String refreshToken;
+
+        private Session(String email) {
+            this.email = email;
+        }
+    }
+}
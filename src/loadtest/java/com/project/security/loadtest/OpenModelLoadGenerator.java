@@ -0,0 +1,77 @@
+package com.project.security.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 개방형(open model) 부하 생성, 응답 여부와 관계없이 정해진 간격으로 요청 전송
+ * 응답 시간은 예정된 전송 시각부터 측정하므로 서버가 느려져 전송이 밀린 시간도 포함 (coordinated omission 보정)
+ */
+public class OpenModelLoadGenerator {
+
+    private final HttpClient client;
+
+    // 동시에 처리 중인 요청 수 한도, 초과한 요청은 보내지 않고 dropped로 기록
+    private final Semaphore inFlight;
+
+    private final int maxInFlight;
+
+    public OpenModelLoadGenerator(HttpClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    // ratePerSecond 간격으로 arrival이 만든 요청들을 동시에 전송, warmup 동안의 결과는 기록하지 않음
+    public ScenarioResult run(String name, double ratePerSecond, Duration warmup, Duration duration,
+                              Supplier<List<HttpRequest>> arrival) throws InterruptedException {
+        ScenarioResult result = new ScenarioResult(name, ratePerSecond);
+        ScenarioResult discarded = new ScenarioResult(name, ratePerSecond);
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            ScenarioResult target = intended >= measureFrom ? result : discarded;
+            for (HttpRequest request : arrival.get()) {
+                send(request, intended, target);
+            }
+        }
+
+        // 처리 중인 요청 완료 대기
+        inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS);
+        inFlight.release(maxInFlight);
+        result.setMeasuredNanos(end - measureFrom);
+        return result;
+    }
+
+    private void send(HttpRequest request, long intended, ScenarioResult result) {
+        if (!inFlight.tryAcquire()) {
+            result.drop();
+            return;
+        }
+        CompletableFuture<HttpResponse<Void>> response = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        response.whenComplete((r, e) -> {
+            long latency = System.nanoTime() - intended;
+            result.record(e == null ? String.valueOf(r.statusCode()) : "error", latency);
+            inFlight.release();
+        });
+    }
+}
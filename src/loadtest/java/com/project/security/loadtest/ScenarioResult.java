@@ -0,0 +1,108 @@
+package com.project.security.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 시나리오별 응답 시간 분포, 상태 코드별 건수
+public class ScenarioResult {
+
+    // 기록 가능한 최대 응답 시간 (μs)
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String name;
+
+    private final double targetRate;
+
+    private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+    private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    // 동시 요청 수 한도를 넘어 보내지 못한 요청 수
+    private final AtomicLong dropped = new AtomicLong();
+
+    private long measuredNanos;
+
+    public ScenarioResult(String name, double targetRate) {
+        this.name = name;
+        this.targetRate = targetRate;
+    }
+
+    void record(String status, long latencyNanos) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void drop() {
+        dropped.incrementAndGet();
+    }
+
+    void setMeasuredNanos(long measuredNanos) {
+        this.measuredNanos = measuredNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return latency.getTotalCount();
+    }
+
+    // 2xx 외의 응답, 요청 실패, 보내지 못한 요청 비율
+    public double getErrorRatio() {
+        long total = getCount() + dropped.get();
+        if (total == 0) {
+            return 0;
+        }
+        long success = statuses.entrySet().stream()
+                .filter(e -> e.getKey().startsWith("2"))
+                .mapToLong(e -> e.getValue().sum())
+                .sum();
+        return (double) (total - success) / total;
+    }
+
+    // JSON 보고서 항목
+    public Map<String, Object> toReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("name", name);
+        report.put("targetRatePerSecond", targetRate);
+        report.put("requests", getCount());
+        report.put("dropped", dropped.get());
+        report.put("errorRatio", round(getErrorRatio()));
+        report.put("throughputPerSecond", round(measuredNanos == 0 ? 0 : getCount() * 1e9 / measuredNanos));
+        Map<String, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        report.put("statuses", statusCounts);
+        Map<String, Object> latencyMillis = new LinkedHashMap<>();
+        latencyMillis.put("p50", millis(latency.getValueAtPercentile(50)));
+        latencyMillis.put("p99", millis(latency.getValueAtPercentile(99)));
+        latencyMillis.put("p999", millis(latency.getValueAtPercentile(99.9)));
+        latencyMillis.put("max", millis(latency.getMaxValue()));
+        latencyMillis.put("mean", round(latency.getMean() / 1000.0));
+        report.put("latencyMillis", latencyMillis);
+        return report;
+    }
+
+    public String summary() {
+        return String.format("%-10s requests=%d throughput=%.1f/s p50=%.2fms p99=%.2fms p999=%.2fms errors=%.2f%% statuses=%s",
+                name, getCount(), measuredNanos == 0 ? 0 : getCount() * 1e9 / measuredNanos,
+                millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)), getErrorRatio() * 100, toReport().get("statuses"));
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.security.audit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 감사 로그 한 건, 발생 시각은 기록 요청 시점 (DB 저장 시점이 아님)
+@Getter
+@RequiredArgsConstructor
+public class AuditEvent {
+
+    private final AuditEventType type;
+
+    // 요청한 이메일 (Token을 해석할 수 없는 재발급 실패는 null)
+    private final String email;
+
+    // 사용자를 찾은 경우에만 기록
+    private final Long memberId;
+
+    private final long occurredAt;
+}
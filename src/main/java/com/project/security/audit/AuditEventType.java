@@ -0,0 +1,9 @@
+package com.project.security.audit;
+
+// 감사 로그 이벤트 종류
+public enum AuditEventType {
+    LOGIN,
+    LOGIN_FAILED,
+    REFRESH,
+    REFRESH_FAILED
+}
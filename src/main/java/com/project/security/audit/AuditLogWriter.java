@@ -0,0 +1,224 @@
+package com.project.security.audit;
+
+import com.project.security.entity.AuditLog;
+import com.project.security.entity.TsidGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그인, Token 재발급 감사 로그 비동기 저장
+ * 요청 스레드는 AuditRingBuffer에 이벤트를 넣기만 하고, 전용 스레드가 batch-size만큼 모이거나
+ * flush-interval-millis가 지나면 JDBC 배치 INSERT로 저장 (요청 처리 중에 DB INSERT를 기다리지 않음)
+ * 버퍼가 가득 찬 경우 overflow 설정에 따라 버리거나(drop) 자리가 날 때까지 대기(block)
+ * 종료 시 버퍼에 남은 이벤트를 모두 저장한 뒤 종료 (최대 shutdown-timeout-millis)
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL = "insert into audit_log (id, type, email, member_id, occurred_at) values (?, ?, ?, ?, ?)";
+
+    // block 정책에서 자리가 나기를 기다리는 간격
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    public enum Overflow {
+        DROP,
+        BLOCK
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+
+    private final AuditRingBuffer<AuditEvent> buffer;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final Overflow overflow;
+
+    private final long shutdownTimeoutMillis;
+
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    // 저장 스레드가 대기 중인지 여부, 대기 중일 때만 깨움
+    private volatile boolean sleeping;
+
+    private final Counter written;
+
+    private final Counter dropped;
+
+    private final Counter failed;
+
+    private final Timer flushTimer;
+
+    private final Timer blockedTimer;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${audit.enabled:true}") boolean enabled,
+                          @Value("${audit.buffer-capacity:8192}") int bufferCapacity,
+                          @Value("${audit.batch-size:500}") int batchSize,
+                          @Value("${audit.flush-interval-millis:1000}") long flushIntervalMillis,
+                          @Value("${audit.overflow:drop}") String overflow,
+                          @Value("${audit.shutdown-timeout-millis:10000}") long shutdownTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.buffer = new AuditRingBuffer<>(bufferCapacity);
+        this.batchSize = Math.max(1, Math.min(batchSize, buffer.capacity()));
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMillis));
+        this.overflow = Overflow.valueOf(overflow.trim().toUpperCase(Locale.ROOT));
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+
+        this.written = Counter.builder("audit.events").tag("result", "written").register(meterRegistry);
+        this.dropped = Counter.builder("audit.events").tag("result", "dropped").register(meterRegistry);
+        this.failed = Counter.builder("audit.events").tag("result", "failed").register(meterRegistry);
+        // 배치 INSERT 한 번의 소요 시간
+        this.flushTimer = Timer.builder("audit.flush").publishPercentileHistogram().register(meterRegistry);
+        // block 정책에서 요청 스레드가 버퍼 자리를 기다린 시간
+        this.blockedTimer = Timer.builder("audit.blocked").register(meterRegistry);
+        Gauge.builder("audit.buffer.depth", buffer, AuditRingBuffer::size).register(meterRegistry);
+
+        this.writer = new Thread(this::run, "audit-log-writer");
+        writer.setDaemon(true);
+        if (enabled) {
+            writer.start();
+        }
+    }
+
+    // 감사 로그 기록 요청, 저장은 백그라운드에서 수행
+    public void record(AuditEventType type, String email, Long memberId) {
+        if (!enabled) {
+            return;
+        }
+        AuditEvent event = new AuditEvent(type, truncate(email), memberId, System.currentTimeMillis());
+        if (!running) {
+            dropped.increment(); // 종료 중
+            return;
+        }
+        if (buffer.offer(event)) {
+            if (sleeping && buffer.size() >= batchSize) {
+                LockSupport.unpark(writer);
+            }
+            return;
+        }
+        if (overflow == Overflow.DROP) {
+            dropped.increment();
+            return;
+        }
+        // block: 저장 스레드를 깨우고 자리가 날 때까지 대기
+        long start = System.nanoTime();
+        while (!buffer.offer(event)) {
+            if (!running) {
+                dropped.increment();
+                return;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        blockedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // 컬럼 길이를 넘는 이메일(잘못된 로그인 요청 등)은 잘라서 저장, 한 건 때문에 배치 전체가 실패하지 않도록
+    static String truncate(String email) {
+        if (email == null || email.length() <= AuditLog.EMAIL_LENGTH) {
+            return email;
+        }
+        int end = AuditLog.EMAIL_LENGTH;
+        if (Character.isHighSurrogate(email.charAt(end - 1))) {
+            end--; // surrogate pair가 나뉘지 않도록
+        }
+        return email.substring(0, end);
+    }
+
+    // 저장 스레드, 종료 요청 후에도 버퍼가 빌 때까지 저장
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        long batchStart = 0;
+        while (true) {
+            boolean stopping = !running;
+            AuditEvent event;
+            while (batch.size() < batchSize && (event = buffer.poll()) != null) {
+                if (batch.isEmpty()) {
+                    batchStart = System.nanoTime();
+                }
+                batch.add(event);
+            }
+            if (!batch.isEmpty() && (batch.size() >= batchSize || stopping
+                    || System.nanoTime() - batchStart >= flushIntervalNanos)) {
+                flush(batch);
+                batch.clear();
+                continue;
+            }
+            if (stopping) {
+                if (buffer.size() == 0) {
+                    return;
+                }
+                Thread.onSpinWait(); // 기록 중인 이벤트 대기
+                continue;
+            }
+            sleeping = true;
+            if (buffer.size() < batchSize && running) {
+                LockSupport.parkNanos(this, batch.isEmpty()
+                        ? flushIntervalNanos
+                        : flushIntervalNanos - (System.nanoTime() - batchStart));
+            }
+            sleeping = false;
+        }
+    }
+
+    // 실패한 배치는 다시 시도하지 않음 (DB 장애 시 버퍼가 가득 차 요청 처리까지 막히지 않도록)
+    private void flush(List<AuditEvent> batch) {
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setLong(1, TsidGenerator.nextId());
+                ps.setString(2, event.getType().name());
+                ps.setString(3, event.getEmail());
+                if (event.getMemberId() != null) {
+                    ps.setLong(4, event.getMemberId());
+                } else {
+                    ps.setNull(4, Types.BIGINT);
+                }
+                ps.setTimestamp(5, new Timestamp(event.getOccurredAt()));
+            });
+            written.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.warn("Audit log flush failed, {} events discarded: {}", batch.size(), e.getMessage());
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (!enabled) {
+            return;
+        }
+        LockSupport.unpark(writer);
+        writer.join(shutdownTimeoutMillis);
+        if (writer.isAlive()) {
+            log.warn("Audit log writer did not finish within {} ms, {} events not written", shutdownTimeoutMillis, buffer.size());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.security.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 크기가 고정된 잠금 없는(lock-free) 환형 버퍼, 여러 스레드가 추가하고 한 스레드(AuditLogWriter)만 꺼냄
+ * slot마다 순번(sequence)을 두어 추가 위치는 CAS로 확보하고, 값 기록이 끝난 뒤 순번을 갱신하여 꺼내는 쪽에 공개
+ * (Dmitry Vyukov의 bounded MPMC queue를 단일 소비자로 단순화)
+ */
+final class AuditRingBuffer<E> {
+
+    private final Object[] elements;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    // 다음 추가 위치
+    private final AtomicLong tail = new AtomicLong();
+
+    // 다음 꺼낼 위치, 소비자 스레드만 변경
+    private volatile long head;
+
+    // capacity는 2의 거듭제곱으로 올림
+    AuditRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // 가득 찬 경우 false
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false; // 한 바퀴 전 값이 아직 꺼내지지 않음
+            }
+            // 다른 스레드가 먼저 확보한 위치, 다시 시도
+        }
+    }
+
+    // 비어 있거나 다음 값이 아직 기록 중이면 null, 소비자 스레드에서만 호출
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = (E) elements[index];
+        elements[index] = null;
+        sequences.set(index, position + mask + 1);
+        head = position + 1;
+        return element;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
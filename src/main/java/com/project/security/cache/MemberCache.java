@@ -0,0 +1,84 @@
+package com.project.security.cache;
+
+import com.project.security.entity.Member;
+import com.project.security.repository.MemberCredentials;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// 이메일 주소 기준 Member 로컬 캐시 (Near Cache)
+// 크기, TTL 기준으로 항목을 제거하며 변경 발생 시 Redis Pub/Sub으로 모든 서버의 항목을 무효화
+// 사용자 정보 조회용 Member와 인증용 MemberCredentials를 따로 저장
+@Component
+public class MemberCache {
+
+    // 캐시 무효화 메시지를 전달하는 Redis 채널
+    public static final String INVALIDATION_CHANNEL = "member:invalidate";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final boolean invalidationEnabled;
+
+    private final NearCache<Member> members;
+
+    private final NearCache<MemberCredentials> credentials;
+
+    public MemberCache(StringRedisTemplate redisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${member.cache.max-size:10000}") int maxSize,
+                       @Value("${member.cache.ttl-seconds:300}") long ttlSeconds,
+                       @Value("${member.cache.invalidation.enabled:true}") boolean invalidationEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.invalidationEnabled = invalidationEnabled;
+        this.members = new NearCache<>(maxSize, ttlSeconds * 1000L);
+        this.credentials = new NearCache<>(maxSize, ttlSeconds * 1000L);
+        members.bindTo(meterRegistry, "member");
+        credentials.bindTo(meterRegistry, "member-credentials");
+    }
+
+    // Member 조회, 없거나 만료된 경우 loader를 통해 조회 후 저장
+    public Optional<Member> get(String email, Supplier<Optional<Member>> loader) {
+        return members.get(email, loader);
+    }
+
+    // 캐시된 Member만 조회, 없으면 빈 값 반환
+    public Optional<Member> peek(String email) {
+        return members.peek(email);
+    }
+
+    // 인증 정보(이메일, 비밀번호, 권한) 조회, 없거나 만료된 경우 loader를 통해 조회 후 저장
+    public Optional<MemberCredentials> getCredentials(String email, Supplier<Optional<MemberCredentials>> loader) {
+        return credentials.get(email, loader);
+    }
+
+    // 캐시된 인증 정보만 조회, 없으면 빈 값 반환
+    public Optional<MemberCredentials> peekCredentials(String email) {
+        return credentials.peek(email);
+    }
+
+    // 권한, 비밀번호 등 사용자 정보 변경 시 호출, 모든 서버의 캐시 항목 무효화
+    public void invalidate(String email) {
+        evictLocal(email);
+        if (invalidationEnabled) {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, email);
+        }
+    }
+
+    // 현재 서버의 캐시 항목만 제거 (무효화 메시지 수신 시 호출)
+    public void evictLocal(String email) {
+        members.evict(email);
+        credentials.evict(email);
+    }
+
+    public NearCache<Member> getMembers() {
+        return members;
+    }
+
+    public NearCache<MemberCredentials> getCredentials() {
+        return credentials;
+    }
+}
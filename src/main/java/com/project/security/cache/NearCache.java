@@ -0,0 +1,157 @@
+package com.project.security.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// 크기, TTL 기준으로 항목을 제거하는 로컬 캐시
+public class NearCache<V> {
+
+    // 무효화 세대 구간 수 (키 hash 기준)
+    private static final int GENERATION_STRIPES = 64;
+
+    private final int maxSize;
+
+    private final long ttlMillis;
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // 구간별 무효화 횟수, 조회(loader)하는 동안 무효화된 경우 조회 결과를 저장하지 않음
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public NearCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    // 캐시 조회, 없거나 만료된 경우 loader를 통해 조회 후 저장 (조회 결과가 없으면 저장하지 않음)
+    public Optional<V> get(String key, Supplier<Optional<V>> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt > System.currentTimeMillis()) {
+                hits.incrementAndGet();
+                return Optional.of(entry.value);
+            }
+            if (entries.remove(key, entry)) {
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+
+        int stripe = stripe(key);
+        long generation = generations.get(stripe);
+        Optional<V> value = loader.get();
+        value.ifPresent(v -> put(key, v, stripe, generation));
+        return value;
+    }
+
+    // 캐시 항목만 조회, 없거나 만료된 경우 loader 없이 빈 값 반환
+    public Optional<V> peek(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.expiresAt <= System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value);
+    }
+
+    // 항목 제거, 진행 중인 조회 결과도 저장되지 않도록 세대를 먼저 증가
+    public void evict(String key) {
+        generations.incrementAndGet(stripe(key));
+        entries.remove(key);
+    }
+
+    // cache.gets{result=hit|miss}, cache.evictions, cache.size 등록 (cache 태그로 구분)
+    public void bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+                .tag("cache", name).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+                .tag("cache", name).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, AtomicLong::get)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", entries, Map::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 조회 시작 후 무효화된 경우 저장하지 않음
+    // 저장 직후 다시 확인하여, 확인과 저장 사이에 무효화된 경우에도 저장한 항목 제거
+    private void put(String key, V value, int stripe, long generation) {
+        if (maxSize <= 0 || generations.get(stripe) != generation) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        Entry<V> entry = new Entry<>(value, System.currentTimeMillis() + ttlMillis);
+        entries.put(key, entry);
+        if (generations.get(stripe) != generation) {
+            entries.remove(key, entry);
+        }
+    }
+
+    private static int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    // 만료된 항목 제거, 그래도 가득 차 있으면 임의의 항목 제거
+    private void evict() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt <= now) {
+                iterator.remove();
+                evictions.incrementAndGet();
+            }
+        }
+        iterator = entries.values().iterator();
+        while (entries.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.security.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 경로별(partition) 동시 처리 수 제한
+ * 각 partition은 응답 시간을 기준으로 한도를 조정(GradientLimit)하며, 한도를 넘는 요청은 즉시 거절
+ * partition을 나누어 /login 과부하가 /user/** 요청에 영향을 주지 않도록 함
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final boolean enabled;
+
+    private final Map<String, Partition> partitions = new LinkedHashMap<>();
+
+    private final Partition defaultPartition;
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${concurrency-limit.enabled:true}") boolean enabled,
+                                      @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+                                      @Value("${concurrency-limit.min-limit:4}") int minLimit,
+                                      @Value("${concurrency-limit.max-limit:200}") int maxLimit) {
+        this.enabled = enabled;
+        for (String name : new String[]{"login", "join", "refresh", "user", "admin"}) {
+            partitions.put(name, new Partition(name, new GradientLimit(initialLimit, minLimit, maxLimit), meterRegistry));
+        }
+        this.defaultPartition = new Partition("other", new GradientLimit(initialLimit, minLimit, maxLimit), meterRegistry);
+    }
+
+    // 요청 처리 허가, 한도를 넘으면 null
+    public Permit tryAcquire(String path) {
+        if (!enabled) {
+            return Permit.NOOP;
+        }
+        Partition partition = partitionOf(path);
+        int inflight = partition.inflight.incrementAndGet();
+        if (inflight > partition.limit.getLimit()) {
+            partition.inflight.decrementAndGet();
+            partition.shed.increment();
+            return null;
+        }
+        return new Permit(partition, System.nanoTime());
+    }
+
+    private Partition partitionOf(String path) {
+        if (path.equals("/login")) {
+            return partitions.get("login");
+        }
+        if (path.equals("/join")) {
+            return partitions.get("join");
+        }
+        if (path.equals("/refresh")) {
+            return partitions.get("refresh");
+        }
+        if (path.startsWith("/user/")) {
+            return partitions.get("user");
+        }
+        if (path.startsWith("/admin/")) {
+            return partitions.get("admin");
+        }
+        return defaultPartition;
+    }
+
+    // 처리 허가, 요청 완료 시 release 또는 drop 호출
+    public static class Permit {
+
+        private static final Permit NOOP = new Permit(null, 0);
+
+        private final Partition partition;
+
+        private final long startedAt;
+
+        private Permit(Partition partition, long startedAt) {
+            this.partition = partition;
+            this.startedAt = startedAt;
+        }
+
+        // 정상 완료, 응답 시간을 한도 계산에 반영
+        public void release() {
+            if (partition == null) {
+                return;
+            }
+            int inflight = partition.inflight.getAndDecrement();
+            partition.limit.onSample(System.nanoTime() - startedAt, inflight);
+        }
+
+        // 오류, 시간 초과 등으로 완료, 응답 시간은 반영하지 않음
+        public void drop() {
+            if (partition == null) {
+                return;
+            }
+            partition.inflight.decrementAndGet();
+        }
+    }
+
+    private static final class Partition {
+
+        private final GradientLimit limit;
+
+        private final AtomicInteger inflight = new AtomicInteger();
+
+        private final Counter shed;
+
+        private Partition(String name, GradientLimit limit, MeterRegistry meterRegistry) {
+            this.limit = limit;
+            this.shed = Counter.builder("concurrency.limit.shed").tag("partition", name).register(meterRegistry);
+            Gauge.builder("concurrency.limit", limit, GradientLimit::getLimit).tag("partition", name).register(meterRegistry);
+            Gauge.builder("concurrency.limit.inflight", inflight, AtomicInteger::get).tag("partition", name).register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.security.concurrency;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 동시 처리 수 제한 필터, Security Filter Chain 가장 앞에서 실행되어 한도를 넘는 요청은 Token 파싱이나 DB 조회 전에 거절
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(request.getServletPath());
+        if (permit == null) {
+            response.setStatus(503);
+            response.setCharacterEncoding("utf-8");
+            response.setContentType("text/html; charset=UTF-8");
+            response.getWriter().write("서버가 요청을 처리할 수 없습니다. 잠시 후 다시 시도하세요.");
+            return;
+        }
+
+        boolean async = false;
+        boolean success = false;
+        try {
+            filterChain.doFilter(request, response);
+            success = true;
+            // 비동기 요청(/join, /login)은 응답이 완료된 시점에 반환
+            if (request.isAsyncStarted()) {
+                async = true;
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        permit.release();
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        // onComplete가 이어서 호출되므로 처리하지 않음
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        // onComplete가 이어서 호출되므로 처리하지 않음
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            }
+        } finally {
+            if (!async) {
+                if (success) {
+                    permit.release();
+                } else {
+                    permit.drop();
+                }
+            }
+        }
+    }
+}
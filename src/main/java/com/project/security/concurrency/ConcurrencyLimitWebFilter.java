@@ -0,0 +1,44 @@
+package com.project.security.concurrency;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.nio.charset.StandardCharsets;
+
+// ConcurrencyLimitFilter의 WebFlux 버전, Security Filter Chain 가장 앞에서 실행되어 한도를 넘는 요청은 Token 파싱이나 DB 조회 전에 거절
+public class ConcurrencyLimitWebFilter implements WebFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitWebFilter(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(exchange.getRequest().getPath().pathWithinApplication().value());
+        if (permit == null) {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().setContentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8));
+            DataBuffer body = response.bufferFactory().wrap("서버가 요청을 처리할 수 없습니다. 잠시 후 다시 시도하세요.".getBytes(StandardCharsets.UTF_8));
+            return response.writeWith(Mono.just(body));
+        }
+        // 응답이 완료된 시점에 반환, 오류 또는 연결 종료(cancel)인 경우 처리 시간을 한도 계산에 반영하지 않음
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (signal == SignalType.ON_COMPLETE) {
+                        permit.release();
+                    } else {
+                        permit.drop();
+                    }
+                });
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.security.concurrency;
+
+/**
+ * 응답 시간 기반 동시 처리 한도 추정 (Gradient 방식)
+ * 장기 평균 응답 시간(longRtt)과 최근 응답 시간(shortRtt)의 비율(gradient)로 한도를 조정
+ * - 응답 시간이 평소 수준이면 gradient = 1, 대기열 여유(queueSize)만큼 한도 증가
+ * - 응답 시간이 늘어나면 gradient < 1, 한도 감소
+ */
+public class GradientLimit {
+
+    // 장기 평균에 반영하는 표본 수
+    private static final int LONG_WINDOW = 600;
+
+    // 장기 평균 대비 허용하는 응답 시간 증가 비율
+    private static final double TOLERANCE = 1.5;
+
+    // 새 한도 반영 비율
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    // 한도 계산값, onSample에서만 사용 (잠금 안에서 변경)
+    private double estimate;
+
+    // 요청마다 읽는 한도, 잠금 없이 읽을 수 있도록 onSample에서 계산 후 기록
+    private volatile int limit;
+
+    private double longRtt;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.estimate = initialLimit;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    // 요청 완료 시 응답 시간 반영
+    public synchronized void onSample(long rttNanos, int inflight) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+        } else {
+            longRtt = longRtt + (rttNanos - longRtt) / LONG_WINDOW;
+        }
+
+        // 처리 중인 요청이 한도의 절반도 안 되면 한도를 늘릴 근거가 없음
+        if (inflight < estimate / 2) {
+            return;
+        }
+
+        // 응답 시간이 회복된 경우 장기 평균도 빠르게 따라 내려오도록 감소
+        if (longRtt / rttNanos > 2) {
+            longRtt = longRtt * 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / rttNanos));
+        double queueSize = Math.sqrt(estimate);
+        double newLimit = estimate * gradient + queueSize;
+        newLimit = estimate * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimate = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimate;
+    }
+}
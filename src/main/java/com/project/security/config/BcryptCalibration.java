@@ -0,0 +1,45 @@
+package com.project.security.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// 서버 성능에 맞는 bcrypt 강도(cost) 측정
+// 최소 강도에서 암호화 시간을 측정한 후, 강도가 1 증가할 때마다 시간이 2배가 되므로 목표 시간을 넘지 않는 가장 큰 강도 선택
+@Slf4j
+final class BcryptCalibration {
+
+    // Spring Security 기본값, 이보다 낮은 강도는 사용하지 않음
+    static final int MIN_STRENGTH = 10;
+
+    static final int MAX_STRENGTH = 16;
+
+    private static final String SAMPLE = "bcrypt-calibration-sample";
+
+    private static final int SAMPLES = 3;
+
+    private BcryptCalibration() {
+    }
+
+    static int calibrate(long targetMillis) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode(SAMPLE); // JIT 컴파일 전 측정 제외
+
+        // 다른 작업의 영향을 줄이기 위해 가장 짧은 시간 사용
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode(SAMPLE);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double millis = best / 1_000_000.0;
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && millis * 2 <= targetMillis) {
+            millis *= 2;
+            strength++;
+        }
+        log.info("bcrypt strength calibrated: strength={}, expected={}ms, target={}ms, measured(strength {})={}ms",
+                strength, Math.round(millis), targetMillis, MIN_STRENGTH, Math.round(best / 1_000_000.0));
+        return strength;
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.security.config;
+
+import com.project.security.datasource.ReplicaProperties;
+import com.project.security.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// datasource.replicas.enabled=true인 경우 Primary/Replica 라우팅 DataSource 등록, 아니면 기본 DataSource(Primary) 사용
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, ReplicaProperties replicaProperties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaProperties.getUrls()) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                    .url(url)
+                    .username(replicaProperties.getUsername() != null ? replicaProperties.getUsername() : properties.determineUsername())
+                    .password(replicaProperties.getPassword() != null ? replicaProperties.getPassword() : properties.determinePassword())
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, replicas, replicaProperties.getSelection());
+        routing.afterPropertiesSet();
+        // 트랜잭션 시작 시점이 아닌 첫 쿼리 실행 시점에 연결을 가져와야 readOnly 여부로 라우팅 가능
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
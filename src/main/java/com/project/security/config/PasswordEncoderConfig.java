@@ -0,0 +1,32 @@
+package com.project.security.config;
+
+import com.project.security.metrics.AuthMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+// Servlet, WebFlux 실행 방식과 관계없이 사용하는 비밀번호 암호화 설정
+@Configuration
+public class PasswordEncoderConfig {
+
+    // 사용자 비밀번호 암호화, 암호화/검증 시간 기록
+    // strength가 0인 경우 시작 시 target-millis에 맞는 bcrypt 강도를 측정하여 사용
+    // 저장된 비밀번호의 강도가 더 낮거나 bcrypt가 아닌 경우 upgradeEncoding()이 true → 로그인 시 다시 암호화 (PasswordRehashService)
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:0}") int strength,
+                                           @Value("${password.bcrypt.target-millis:100}") long targetMillis,
+                                           AuthMetrics authMetrics) {
+        int bcryptStrength = strength > 0 ? strength : BcryptCalibration.calibrate(targetMillis);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        // {noop}, {pbkdf2} 등 기존 형식의 비밀번호도 검증 가능하도록 기본 DelegatingPasswordEncoder 사용
+        encoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return new TimedPasswordEncoder(encoder, authMetrics);
+    }
+}
@@ -0,0 +1,139 @@
+package com.project.security.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.security.concurrency.AdaptiveConcurrencyLimiter;
+import com.project.security.concurrency.ConcurrencyLimitWebFilter;
+import com.project.security.jwt.JwtAuthenticationWebFilter;
+import com.project.security.jwt.JwtKeyProperties;
+import com.project.security.jwt.JwtProvider;
+import com.project.security.jwt.ReactiveCustomUserDetailsService;
+import com.project.security.metrics.AuthMetrics;
+import com.project.security.ratelimit.RateLimitProperties;
+import com.project.security.ratelimit.RateLimitWebFilter;
+import com.project.security.ratelimit.RateLimiter;
+import com.project.security.revocation.TokenRevocationService;
+import com.project.security.service.BlockingCallScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// WebFlux(Netty) 실행 시 보안 설정 (spring.main.web-application-type=reactive), SecurityConfig와 같은 규칙 적용
+// 요청 수 제한, 동시 처리 수 제한은 같은 RateLimiter, AdaptiveConcurrencyLimiter를 사용하는 WebFilter로 적용
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties({RateLimitProperties.class, JwtKeyProperties.class})
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final JwtProvider jwtProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final ReactiveCustomUserDetailsService userDetailsService;
+    private final BlockingCallScheduler blockingCallScheduler;
+    private final AuthMetrics authMetrics;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         @Value("${introspection.allowed-networks:127.0.0.1/32,::1/128}") List<String> introspectionNetworks) {
+        List<IpAddressMatcher> introspectionMatchers = introspectionNetworks.stream()
+                .map(IpAddressMatcher::new)
+                .collect(Collectors.toList());
+        return http
+                .httpBasic().disable()
+                .formLogin().disable()
+                // 쿠키 기반이 아닌 JWT 기반이므로 사용하지 않음
+                .csrf().disable()
+                // 기본 로그아웃 필터 대신 ReactiveSignController의 /logout 사용
+                .logout().disable()
+                // CORS 설정
+                .cors(c -> {
+                            CorsConfigurationSource source = exchange -> {
+                                // CORS 허용 패턴
+                                CorsConfiguration config = new CorsConfiguration();
+                                config.setAllowedOrigins(
+                                        List.of("*")
+                                );
+                                config.setAllowedMethods(
+                                        List.of("*")
+                                );
+                                return config;
+                            };
+                            c.configurationSource(source);
+                        }
+                )
+                // 세션에 인증 정보를 저장하지 않음
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                // 조건별 요청 허용/제한 설정
+                .authorizeExchange()
+                .pathMatchers("/join", "/login", "/refresh").permitAll()
+                .pathMatchers("/logout").authenticated()
+                .pathMatchers("/.well-known/jwks.json").permitAll()
+                .pathMatchers("/internal/**").access((authentication, context) ->
+                        Mono.just(new AuthorizationDecision(isAllowed(context.getExchange(), introspectionMatchers))))
+                .pathMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                .pathMatchers("/actuator/**").hasRole("ADMIN")
+                .pathMatchers("/admin/**").hasRole("ADMIN")
+                .pathMatchers("/user/**").hasRole("USER")
+                .anyExchange().denyAll()
+                .and()
+                // JWT 인증 필터 적용
+                .addFilterAt(new JwtAuthenticationWebFilter(jwtProvider, tokenRevocationService, userDetailsService, blockingCallScheduler, authMetrics),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                // 요청 수 제한 필터 적용 (JWT 인증 필터 이전)
+                .addFilterBefore(new RateLimitWebFilter(rateLimiter, objectMapper, blockingCallScheduler), SecurityWebFiltersOrder.AUTHENTICATION)
+                // 동시 처리 수 제한 필터 적용 (Security Filter Chain 가장 앞)
+                .addFilterAt(new ConcurrencyLimitWebFilter(concurrencyLimiter), SecurityWebFiltersOrder.FIRST)
+                // 에러 핸들링
+                .exceptionHandling()
+                // 권한 문제 발생 시 호출
+                .accessDeniedHandler((exchange, e) -> write(exchange, HttpStatus.FORBIDDEN, "권한이 없는 사용자입니다."))
+                // 인증 문제 발생 시 호출
+                .authenticationEntryPoint((exchange, e) -> write(exchange, HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자입니다."))
+                .and()
+                .build();
+    }
+
+    // 요청 주소가 허용된 네트워크에 포함되는지 확인
+    private static boolean isAllowed(ServerWebExchange exchange, List<IpAddressMatcher> matchers) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return false;
+        }
+        String address = remoteAddress.getAddress().getHostAddress();
+        return matchers.stream().anyMatch(matcher -> matcher.matches(address));
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, HttpStatus status, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8));
+        DataBuffer body = response.bufferFactory().wrap(message.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+}
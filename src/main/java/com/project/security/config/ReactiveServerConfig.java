@@ -0,0 +1,27 @@
+package com.project.security.config;
+
+import com.project.security.repository.MappedRefreshTokenStore;
+import com.project.security.repository.ReactiveRefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+    // Tomcat도 classpath에 있으면 WebFlux가 Tomcat 위에서 실행되므로, Netty(event loop) 서버를 직접 지정
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    // token.store: mapped인 경우, 파일 매핑 저장소는 네트워크 대기가 없으므로 event loop에서 바로 호출
+    @Bean
+    @ConditionalOnProperty(name = "token.store", havingValue = "mapped")
+    public ReactiveRefreshTokenStore mappedReactiveRefreshTokenStore(MappedRefreshTokenStore store) {
+        return ReactiveRefreshTokenStore.of(store);
+    }
+}
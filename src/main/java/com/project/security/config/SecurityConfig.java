@@ -1,8 +1,20 @@
 package com.project.security.config;
 
 import com.project.security.jwt.JwtAuthenticationFilter;
+import com.project.security.jwt.JwtKeyProperties;
 import com.project.security.jwt.JwtProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.security.concurrency.AdaptiveConcurrencyLimiter;
+import com.project.security.concurrency.ConcurrencyLimitFilter;
+import com.project.security.metrics.AuthMetrics;
+import com.project.security.ratelimit.RateLimitFilter;
+import com.project.security.ratelimit.RateLimitProperties;
+import com.project.security.ratelimit.RateLimiter;
+import com.project.security.revocation.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.AccessDeniedException;
@@ -10,12 +22,15 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.header.writers.CacheControlHeadersWriter;
+import org.springframework.security.web.header.writers.DelegatingRequestMatcherHeaderWriter;
+import org.springframework.security.web.session.DisableEncodeUrlFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 
@@ -24,21 +39,33 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.Collectors;
 
+// Servlet(Tomcat) 실행 시 보안 설정, WebFlux 실행 시에는 ReactiveSecurityConfig 사용
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties({RateLimitProperties.class, JwtKeyProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthMetrics authMetrics;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${introspection.allowed-networks:127.0.0.1/32,::1/128}") List<String> introspectionNetworks) throws Exception {
         http
                 // ID, Password 문자열을 Base64로 인코딩 하여 전달
                 .httpBasic().disable()
                 // 쿠키 기반이 아닌 JWT 기반이므로 사용하지 않음
                 .csrf().disable()
+                // 기본 로그아웃 필터 대신 SignController의 /logout 사용
+                .logout().disable()
                 // CORS 설정
                 .cors(c -> {
                             CorsConfigurationSource source = request -> {
@@ -55,6 +82,12 @@ public class SecurityConfig {
                             c.configurationSource(source);
                         }
                 )
+                // 캐시 금지 Header는 Token 일괄 검사 외 요청에만 적용 (일괄 검사 응답은 Token 만료시간까지 캐시 가능)
+                // 비동기 응답은 Controller보다 먼저 Header가 작성되므로 요청 경로로 구분
+                .headers(headers -> headers
+                        .cacheControl().disable()
+                        .addHeaderWriter(new DelegatingRequestMatcherHeaderWriter(
+                                new NegatedRequestMatcher(new AntPathRequestMatcher("/internal/**")), new CacheControlHeadersWriter())))
                 // Spring Security 세션 정책 : 세션을 생성 및 사용하지 않음
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
@@ -62,6 +95,17 @@ public class SecurityConfig {
                 .authorizeRequests()
                 // 회원가입과 로그인 모두 승인
                 .antMatchers("/join", "/login", "/refresh").permitAll()
+                // 로그아웃은 인증된 사용자에게만 허용
+                .antMatchers("/logout").authenticated()
+                // 다른 서비스의 Token 검증용 공개 Key 목록은 모두 허용
+                .antMatchers("/.well-known/jwks.json").permitAll()
+                // 내부 Gateway용 Token 일괄 검사는 허용된 네트워크에서만 허용
+                .antMatchers("/internal/**").access(introspectionNetworks.stream()
+                        .map(network -> "hasIpAddress('" + network + "')")
+                        .collect(Collectors.joining(" or ")))
+                // 상태 확인, Prometheus 수집은 모두 허용, 그 외 actuator 요청은 ADMIN 권한이 있는 사용자에게만 허용
+                .antMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                .antMatchers("/actuator/**").hasRole("ADMIN")
                 // /admin으로 시작하는 요청은 ADMIN 권한이 있는 사용자에게만 허용
                 .antMatchers("/admin/**").hasRole("ADMIN")
                 // /user로 시작하는 요청은 USER 권한이 있는 사용자에게만 허용
@@ -69,7 +113,11 @@ public class SecurityConfig {
                 .anyRequest().denyAll()
                 .and()
                 // JWT 인증 필터 적용
-                .addFilterBefore(new JwtAuthenticationFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtProvider, tokenRevocationService, authMetrics), UsernamePasswordAuthenticationFilter.class)
+                // 요청 수 제한 필터 적용 (JWT 인증, 비밀번호 검증 전에 제한)
+                .addFilterBefore(new RateLimitFilter(rateLimiter, objectMapper), JwtAuthenticationFilter.class)
+                // 동시 처리 수 제한 필터 적용 (Security Filter Chain 가장 앞)
+                .addFilterBefore(new ConcurrencyLimitFilter(concurrencyLimiter), DisableEncodeUrlFilter.class)
                 // 에러 핸들링
                 .exceptionHandling()
                 .accessDeniedHandler(new AccessDeniedHandler() {
@@ -94,10 +142,4 @@ public class SecurityConfig {
                 });
         return http.build();
     }
-
-    // 사용자 비밀번호 암호화
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
-    }
 }
@@ -0,0 +1,40 @@
+package com.project.security.config;
+
+import com.project.security.metrics.AuthMetrics;
+import com.project.security.metrics.AuthOutcome;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 비밀번호 암호화, 검증 시간을 기록하는 PasswordEncoder
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    private final AuthMetrics authMetrics;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, AuthMetrics authMetrics) {
+        this.delegate = delegate;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        Timer.Sample sample = authMetrics.start();
+        String encoded = delegate.encode(rawPassword);
+        authMetrics.stop(sample, AuthMetrics.PASSWORD, "encode", AuthOutcome.SUCCESS);
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Timer.Sample sample = authMetrics.start();
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        authMetrics.stop(sample, AuthMetrics.PASSWORD, "match", matches ? AuthOutcome.SUCCESS : AuthOutcome.MISMATCH);
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.security.controller;
+
+import com.project.security.dto.IntrospectionRequest;
+import com.project.security.dto.IntrospectionResult;
+import com.project.security.jwt.JwtProvider;
+import com.project.security.service.TokenIntrospectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 내부 Gateway용 Token 일괄 검사 API, 허용된 네트워크(introspection.allowed-networks)에서만 호출 가능
+// Servlet, WebFlux 실행 방식 모두에서 사용 (CompletableFuture 응답)
+@RestController
+@RequiredArgsConstructor
+public class IntrospectionController {
+
+    private final TokenIntrospectionService introspectionService;
+    private final JwtProvider jwtProvider;
+
+    // 요청: {"tokens": ["...", "..."]}, 응답: 같은 순서의 검사 결과 배열
+    // 응답은 유효한 Token 중 가장 먼저 만료되는 시각까지 캐시 가능 (Cache-Control max-age)
+    @PostMapping("/internal/introspect")
+    public CompletableFuture<ResponseEntity<List<IntrospectionResult>>> introspect(@RequestBody IntrospectionRequest request) {
+        List<String> tokens = request.getTokens();
+        if (tokens != null && tokens.size() > introspectionService.getMaxBatchSize()) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build());
+        }
+        return introspectionService.introspect(tokens)
+                .thenApply(results -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.maxAge(cacheSeconds(results), TimeUnit.SECONDS).cachePrivate())
+                        .body(results));
+    }
+
+    // 유효하지 않은 결과는 만료되어도 바뀌지 않으므로, 유효한 Token이 없으면 Access Token 유효기간만큼 캐시
+    private long cacheSeconds(List<IntrospectionResult> results) {
+        long seconds = jwtProvider.getExpirationMillis() / 1000;
+        for (IntrospectionResult result : results) {
+            if (result.isActive() && result.getTtl() != null) {
+                seconds = Math.min(seconds, result.getTtl());
+            }
+        }
+        return seconds;
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.security.controller;
+
+import com.project.security.jwt.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+// 다른 서비스가 Token을 직접 검증할 수 있도록 공개 Key 목록(JWKS) 제공
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+
+    // ETag가 같으면 304 응답, Key 교체 직후에도 이전 응답을 잠시 사용할 수 있도록 stale-while-revalidate 설정
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        long maxAge = keyRing.getJwksMaxAgeSeconds();
+        return ResponseEntity.ok()
+                .eTag(keyRing.getJwksETag())
+                .cacheControl(CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePublic().staleWhileRevalidate(maxAge, TimeUnit.SECONDS))
+                .body(keyRing.getJwksJson());
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.security.controller;
+
+import org.springframework.http.CacheControl;
+
+// 사용자 정보 조회 API의 ETag (사용자 정보 버전), SignController와 ReactiveSignController에서 사용
+final class MemberETags {
+
+    // 사용자별 정보이므로 공유 캐시에는 저장하지 않고, 매번 ETag로 변경 여부를 확인하도록 설정
+    static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private MemberETags() {
+    }
+
+    static String of(long version) {
+        return "\"v" + version + '"';
+    }
+
+    // If-None-Match 값(쉼표로 구분된 목록, *)에 ETag가 포함되어 있는지 확인
+    static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.security.controller;
+
+import com.project.security.dto.SignRequest;
+import com.project.security.dto.SignResponse;
+import com.project.security.dto.TokenDto;
+import com.project.security.jwt.JwtProvider;
+import com.project.security.service.ReactiveSignService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+// SignController의 WebFlux 버전 (spring.main.web-application-type=reactive)
+// 사용자 일괄 등록(/admin/members/import)은 blocking JDBC batch 작업이므로 Servlet 실행 시에만 제공
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveSignController {
+
+    private final ReactiveSignService memberService;
+    private final JwtProvider jwtProvider;
+
+    @PostMapping(value = "/join")
+    public Mono<ResponseEntity<Boolean>> signup(@RequestBody SignRequest request) {
+        return memberService.join(request).map(result -> new ResponseEntity<>(result, HttpStatus.OK));
+    }
+
+    @PostMapping(value = "/login")
+    public Mono<ResponseEntity<SignResponse>> signin(@RequestBody SignRequest request) {
+        return memberService.login(request).map(response -> new ResponseEntity<>(response, HttpStatus.OK));
+    }
+
+    @GetMapping("/user/get")
+    public Mono<ResponseEntity<SignResponse>> getUser(@RequestParam String email,
+                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditionalGet(email, ifNoneMatch);
+    }
+
+    @GetMapping("/admin/get")
+    public Mono<ResponseEntity<SignResponse>> getUserForAdmin(@RequestParam String email,
+                                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditionalGet(email, ifNoneMatch);
+    }
+
+    // 사용자 정보 버전을 ETag로 사용, If-None-Match가 현재 버전과 같으면 버전만 확인하고 304 응답
+    private Mono<ResponseEntity<SignResponse>> conditionalGet(String email, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return findByEmail(email);
+        }
+        return memberService.findVersion(email).flatMap(version -> {
+            if (version.isPresent() && MemberETags.matches(ifNoneMatch, MemberETags.of(version.get()))) {
+                return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(MemberETags.of(version.get()))
+                        .cacheControl(MemberETags.CACHE_CONTROL)
+                        .<SignResponse>build());
+            }
+            return findByEmail(email);
+        });
+    }
+
+    private Mono<ResponseEntity<SignResponse>> findByEmail(String email) {
+        return memberService.findByEmail(email).map(response -> {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(MemberETags.CACHE_CONTROL);
+            if (response.getVersion() != null) {
+                builder.eTag(MemberETags.of(response.getVersion()));
+            }
+            return builder.body(response);
+        });
+    }
+
+    // Authorization Header가 없거나 Bearer 형식이 아니면 401
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Boolean>> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String accessToken = jwtProvider.stripBearer(authorization);
+        if (accessToken == null) {
+            return Mono.just(new ResponseEntity<>(false, HttpStatus.UNAUTHORIZED));
+        }
+        return memberService.logout(accessToken)
+                .thenReturn(new ResponseEntity<>(true, HttpStatus.OK));
+    }
+
+    // 사용자의 모든 Access Token 폐기 및 Refresh Token 삭제 (비밀번호 유출, 계정 정지)
+    @PostMapping("/admin/members/revoke")
+    public Mono<ResponseEntity<Boolean>> revokeAll(@RequestParam String email) {
+        return memberService.revokeAll(email)
+                .thenReturn(new ResponseEntity<>(true, HttpStatus.OK));
+    }
+
+    @GetMapping("/refresh")
+    public Mono<ResponseEntity<TokenDto>> refresh(@RequestBody TokenDto token) {
+        return memberService.refreshAccessToken(token).map(result -> new ResponseEntity<>(result, HttpStatus.OK));
+    }
+
+    // 로그인, Token 재발급 실패 시 401 응답 (Servlet 실행 시 ExceptionTranslationFilter의 인증 실패 응답과 같음)
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<String> handleAuthenticationFailure(AuthenticationException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .body("인증되지 않은 사용자입니다.");
+    }
+}
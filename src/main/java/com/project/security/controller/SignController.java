@@ -1,39 +1,99 @@
 package com.project.security.controller;
 
+import com.project.security.dto.ImportResult;
 import com.project.security.dto.SignRequest;
 import com.project.security.dto.SignResponse;
 import com.project.security.dto.TokenDto;
+import com.project.security.jwt.JwtProvider;
+import com.project.security.service.MemberImportService;
 import com.project.security.service.SignService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// Servlet(Tomcat) 실행 시 API, WebFlux 실행 시에는 ReactiveSignController 사용
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SignController {
 
     private final SignService memberService;
+    private final MemberImportService memberImportService;
+    private final JwtProvider jwtProvider;
 
+    // 비밀번호 암호화가 끝나면 응답 (요청 스레드는 즉시 반환)
     @PostMapping(value = "/join")
-    public ResponseEntity<Boolean> signup(@RequestBody SignRequest request) throws Exception {
-        return new ResponseEntity<>(memberService.join(request), HttpStatus.OK);
-
+    public CompletableFuture<ResponseEntity<Boolean>> signup(@RequestBody SignRequest request) {
+        return memberService.join(request).thenApply(result -> new ResponseEntity<>(result, HttpStatus.OK));
     }
 
+    // 비밀번호 검증이 끝나면 응답 (요청 스레드는 즉시 반환)
     @PostMapping(value = "/login")
-    public ResponseEntity<SignResponse> signin(@RequestBody SignRequest request) throws Exception {
-        return new ResponseEntity<>(memberService.login(request), HttpStatus.OK);
+    public CompletableFuture<ResponseEntity<SignResponse>> signin(@RequestBody SignRequest request) {
+        return memberService.login(request).thenApply(response -> new ResponseEntity<>(response, HttpStatus.OK));
     }
 
     @GetMapping("/user/get")
-    public ResponseEntity<SignResponse> getUser(@RequestParam String email) throws Exception {
-        return new ResponseEntity<>(memberService.findByEmail(email), HttpStatus.OK);
+    public ResponseEntity<SignResponse> getUser(@RequestParam String email,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
+        return conditionalGet(email, ifNoneMatch);
     }
 
     @GetMapping("/admin/get")
-    public ResponseEntity<SignResponse> getUserForAdmin(@RequestParam String email) throws Exception {
-        return new ResponseEntity<>(memberService.findByEmail(email), HttpStatus.OK);
+    public ResponseEntity<SignResponse> getUserForAdmin(@RequestParam String email,
+                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
+        return conditionalGet(email, ifNoneMatch);
+    }
+
+    // 사용자 정보 버전을 ETag로 사용, If-None-Match가 현재 버전과 같으면 버전만 확인하고 304 응답
+    private ResponseEntity<SignResponse> conditionalGet(String email, String ifNoneMatch) throws Exception {
+        if (ifNoneMatch != null) {
+            Optional<Long> version = memberService.findVersion(email);
+            if (version.isPresent() && MemberETags.matches(ifNoneMatch, MemberETags.of(version.get()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(MemberETags.of(version.get()))
+                        .cacheControl(MemberETags.CACHE_CONTROL)
+                        .build();
+            }
+        }
+        SignResponse response = memberService.findByEmail(email);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(MemberETags.CACHE_CONTROL);
+        if (response.getVersion() != null) {
+            builder.eTag(MemberETags.of(response.getVersion()));
+        }
+        return builder.body(response);
+    }
+
+    // Authorization Header가 없거나 Bearer 형식이 아니면 401
+    @PostMapping("/logout")
+    public ResponseEntity<Boolean> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String accessToken = jwtProvider.stripBearer(authorization);
+        if (accessToken == null) {
+            return new ResponseEntity<>(false, HttpStatus.UNAUTHORIZED);
+        }
+        memberService.logout(accessToken);
+        return new ResponseEntity<>(true, HttpStatus.OK);
+    }
+
+    // 사용자의 모든 Access Token 폐기 및 Refresh Token 삭제 (비밀번호 유출, 계정 정지)
+    @PostMapping("/admin/members/revoke")
+    public ResponseEntity<Boolean> revokeAll(@RequestParam String email) {
+        memberService.revokeAll(email);
+        return new ResponseEntity<>(true, HttpStatus.OK);
+    }
+
+    // 사용자 일괄 등록, 요청 본문(NDJSON 또는 CSV)을 스트리밍으로 처리
+    @PostMapping(value = "/admin/members/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ImportResult> importMembers(HttpServletRequest request) throws Exception {
+        boolean csv = request.getContentType().startsWith("text/csv");
+        return new ResponseEntity<>(memberImportService.importMembers(request.getInputStream(), csv), HttpStatus.OK);
     }
 
     @GetMapping("/refresh")
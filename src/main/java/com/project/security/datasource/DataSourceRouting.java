@@ -0,0 +1,31 @@
+package com.project.security.datasource;
+
+import java.util.function.Supplier;
+
+// 현재 스레드의 DataSource 선택 강제, 읽기 전용 트랜잭션이라도 Primary를 사용해야 하는 경우 사용
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    // Primary에서 실행, 연결은 트랜잭션 시작 시점에 결정되므로 진행 중인 트랜잭션 밖에서 호출해야 함
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY.get() != null;
+    }
+}
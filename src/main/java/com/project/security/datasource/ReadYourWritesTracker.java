@@ -0,0 +1,105 @@
+package com.project.security.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 최근 변경된 사용자 기록, Replica 반영 지연 시간 동안 해당 사용자 조회는 Primary 사용 (예: 회원가입 직후 로그인)
+// 변경한 서버는 로컬 기록으로 바로 Primary를 사용하고, 다른 서버는 Replica에서 찾지 못한 경우 Redis 기록을 확인하여 Primary에서 다시 조회
+@Slf4j
+@Component
+public class ReadYourWritesTracker {
+
+    // 서버 간 공유 기록 (TTL = Replica 반영 지연 허용 시간)
+    private static final String KEY_PREFIX = "memberWritten:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    // Replica 라우팅 사용 여부, 사용하지 않으면 모든 조회가 Primary이므로 기록하지 않음
+    private final boolean enabled;
+
+    // Redis로 다른 서버와 기록 공유 여부 (Redis 없이 실행하는 경우 비활성화)
+    private final boolean shared;
+
+    // Replica 반영 지연 허용 시간(ms), 이 시간 동안 Primary에서 조회
+    private final long windowMillis;
+
+    private final int maxSize;
+
+    private final Map<String, Long> writtenUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate,
+                                 @Value("${datasource.replicas.enabled:false}") boolean enabled,
+                                 @Value("${datasource.replicas.read-your-writes-shared:true}") boolean shared,
+                                 @Value("${datasource.replicas.read-your-writes-millis:2000}") long windowMillis,
+                                 @Value("${datasource.replicas.read-your-writes-max-size:10000}") int maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.shared = shared;
+        this.windowMillis = windowMillis;
+        this.maxSize = maxSize;
+    }
+
+    public void markWritten(String key) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (writtenUntil.size() >= maxSize) {
+            Iterator<Long> iterator = writtenUntil.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() <= now) {
+                    iterator.remove();
+                }
+            }
+        }
+        writtenUntil.put(key, now + windowMillis);
+        if (shared) {
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + key, "1", Duration.ofMillis(windowMillis));
+            } catch (Exception e) {
+                // 기록 실패 시 다른 서버에서는 반영 지연 동안 조회되지 않을 수 있음 (변경 자체는 완료됨)
+                log.warn("Failed to share read-your-writes mark for {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    // 현재 서버에서 변경한 사용자인지 확인, Replica 조회 전에 사용 (Redis 조회 없음)
+    public boolean requiresPrimary(String key) {
+        Long until = writtenUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until > System.currentTimeMillis()) {
+            return true;
+        }
+        writtenUntil.remove(key, until);
+        return false;
+    }
+
+    // 다른 서버를 포함하여 최근 변경된 사용자인지 확인, Replica에서 찾지 못한 경우에만 사용
+    // Redis 장애 시 false (없는 이메일 요청이 Primary 조회로 이어지지 않도록)
+    public boolean writtenRecently(String key) {
+        if (!enabled) {
+            return false;
+        }
+        if (requiresPrimary(key)) {
+            return true;
+        }
+        if (!shared) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + key));
+        } catch (Exception e) {
+            log.debug("Failed to read read-your-writes mark for {}: {}", key, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.security.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// application.yml datasource.replicas 설정값, 읽기 전용 트랜잭션을 보낼 Replica 목록
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    // Replica JDBC URL 목록
+    private List<String> urls = new ArrayList<>();
+
+    // 비어 있으면 spring.datasource 계정 사용
+    private String username;
+
+    private String password;
+
+    // Replica당 최대 연결 수
+    private int maximumPoolSize = 10;
+
+    // Replica 선택 방식
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    public enum Selection {
+        ROUND_ROBIN, // 순서대로 선택
+        LEAST_LOADED // 사용 중인 연결과 대기 중인 요청이 가장 적은 Replica 선택
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.security.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 Replica, 그 외(쓰기, 트랜잭션 없음)는 Primary로 연결
+ * 트랜잭션의 readOnly 여부는 연결을 실제로 가져오는 시점에 확인하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final List<HikariDataSource> replicas;
+
+    private final String[] replicaKeys;
+
+    private final ReplicaProperties.Selection selection;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, ReplicaProperties.Selection selection) {
+        this.replicas = replicas;
+        this.selection = selection;
+        this.replicaKeys = new String[replicas.size()];
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            replicaKeys[i] = "replica-" + i;
+            targets.put(replicaKeys[i], replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.length == 0
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || DataSourceRouting.isPrimaryForced()) {
+            return PRIMARY;
+        }
+        return replicaKeys[selectReplica()];
+    }
+
+    private int selectReplica() {
+        if (selection == ReplicaProperties.Selection.LEAST_LOADED) {
+            int best = 0;
+            int bestLoad = Integer.MAX_VALUE;
+            for (int i = 0; i < replicas.size(); i++) {
+                int load = load(replicas.get(i));
+                if (load < bestLoad) {
+                    best = i;
+                    bestLoad = load;
+                }
+            }
+            return best;
+        }
+        return Math.floorMod(next.getAndIncrement(), replicaKeys.length);
+    }
+
+    // 사용 중인 연결 수 + 연결을 기다리는 스레드 수, Pool이 아직 시작되지 않은 경우 0
+    private static int load(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+    }
+}
@@ -0,0 +1,44 @@
+package com.project.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 사용자 일괄 등록 결과
+@Getter
+@NoArgsConstructor
+public class ImportResult {
+
+    // 응답에 포함할 최대 오류 건수
+    private static final int MAX_ERRORS = 1000;
+
+    private long imported;
+
+    private long failed;
+
+    private List<RowError> errors = new ArrayList<>();
+
+    public void addImported(long count) {
+        this.imported += count;
+    }
+
+    public void addError(long line, String message) {
+        this.failed++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        private long line;
+
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Token 일괄 검사 요청, Authorization Header 값이 아닌 Token 문자열 목록
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntrospectionRequest {
+
+    private List<String> tokens;
+}
@@ -0,0 +1,37 @@
+package com.project.security.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Token 검사 결과, 요청의 Token 순서와 같은 순서로 응답
+// 유효하지 않은 Token은 active, status만 포함 (값이 없는 항목은 응답에서 생략)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IntrospectionResult {
+
+    // 유효 여부 (서명, 만료시간, 폐기 여부 모두 확인)
+    private boolean active;
+
+    // valid, expired, revoked, malformed, bad_signature, unknown_key
+    private String status;
+
+    private String sub;
+
+    private List<String> roles;
+
+    private String jti;
+
+    // 만료 시각 (epoch 초), 이 시각까지 결과를 캐시할 수 있음
+    private Long exp;
+
+    // 남은 유효기간(초)
+    private Long ttl;
+}
@@ -1,5 +1,6 @@
 package com.project.security.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.project.security.entity.Authority;
 import com.project.security.entity.Member;
 import lombok.AllArgsConstructor;
@@ -26,10 +27,15 @@ public class SignResponse {
 
     private TokenDto token;
 
+    // 사용자 정보 버전, 응답 본문 대신 ETag로 전달
+    @JsonIgnore
+    private Long version;
+
     public SignResponse(Member member) {
         this.id = member.getId();
         this.email = member.getEmail();
         this.nickname = member.getNickname();
         this.roles = member.getRoles();
+        this.version = member.getVersion();
     }
 }
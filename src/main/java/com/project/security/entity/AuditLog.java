@@ -0,0 +1,38 @@
+package com.project.security.entity;
+
+import com.project.security.audit.AuditEventType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.Instant;
+
+// 로그인, Token 재발급 감사 로그, 저장은 AuditLogWriter가 JDBC 배치 INSERT로 수행 (엔티티는 테이블 정의용)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "audit_log", indexes = {
+        @Index(name = "idx_audit_log_email", columnList = "email, occurred_at"),
+        @Index(name = "idx_audit_log_occurred_at", columnList = "occurred_at")
+})
+public class AuditLog {
+
+    // email 컬럼 길이, 로그인 실패 요청의 이메일은 검증되지 않은 값이므로 AuditLogWriter에서 이 길이로 자름
+    public static final int EMAIL_LENGTH = 255;
+
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private AuditEventType type;
+
+    @Column(length = EMAIL_LENGTH)
+    private String email;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+}
@@ -1,34 +1,19 @@
 package com.project.security.entity;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import javax.persistence.*;
-
-@Entity
+// 사용자 권한, 별도 테이블 없이 Member의 roles 컬럼에 이름만 저장 (AuthorityListConverter)
+// 변경 감지 시 roles 목록을 값으로 비교하도록 equals, hashCode 구현 (없으면 매번 변경된 것으로 판단하여 UPDATE 발생)
 @Getter
+@EqualsAndHashCode
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Authority {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @JsonIgnore
-    private Long id;
-
-    @Column
     private String name;
-
-    @ManyToOne
-    @JoinColumn(name = "member")
-    @JsonIgnore // JSON 변환과정에서 객체에 포함되지 않음
-    private Member member;
-
-    public void setMember(Member member) {
-        this.member = member;
-    }
 }
@@ -0,0 +1,41 @@
+package com.project.security.entity;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.ArrayList;
+import java.util.List;
+
+// 권한 목록을 쉼표로 구분한 문자열("ROLE_USER,ROLE_ADMIN")로 변환하여 Member 테이블의 컬럼 하나에 저장
+// 권한마다 Authority 행을 만들지 않으므로 사용자 조회 시 JOIN이나 추가 SELECT가 발생하지 않음
+@Converter
+public class AuthorityListConverter implements AttributeConverter<List<Authority>, String> {
+
+    private static final String DELIMITER = ",";
+
+    @Override
+    public String convertToDatabaseColumn(List<Authority> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Authority role : roles) {
+            if (builder.length() > 0) {
+                builder.append(DELIMITER);
+            }
+            builder.append(role.getName());
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public List<Authority> convertToEntityAttribute(String column) {
+        List<Authority> roles = new ArrayList<>();
+        if (column == null || column.isEmpty()) {
+            return roles;
+        }
+        for (String name : column.split(DELIMITER)) {
+            roles.add(Authority.builder().name(name).build());
+        }
+        return roles;
+    }
+}
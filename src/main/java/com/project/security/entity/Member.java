@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -16,8 +17,10 @@ import java.util.List;
 @Builder
 public class Member {
 
+    // 애플리케이션에서 시간순 ID 생성 (IDENTITY 사용 시 INSERT 배치가 비활성화됨)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "tsid")
+    @GenericGenerator(name = "tsid", strategy = "com.project.security.entity.TsidGenerator")
     private Long id;
 
     @Column(unique = true)
@@ -32,13 +35,18 @@ public class Member {
     @Column
     private String refreshToken;
 
-    @OneToMany(mappedBy = "member", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    // 변경될 때마다 증가하는 버전 (낙관적 잠금), 조회 API의 ETag로 사용
+    @Version
+    private Long version;
+
+    // 권한 목록은 별도 테이블 없이 컬럼 하나에 저장
+    @Column(name = "roles")
+    @Convert(converter = AuthorityListConverter.class)
     @Builder.Default
     private List<Authority> roles = new ArrayList<>();
 
     public void setRoles(List<Authority> role) {
         this.roles = role;
-        role.forEach(o -> o.setMember(this));
     }
 
     public void setRefreshToken(String refreshToken) {
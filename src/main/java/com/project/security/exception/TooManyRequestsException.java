@@ -0,0 +1,16 @@
+package com.project.security.exception;
+
+// 처리 가능한 요청 수를 초과한 경우 발생, 429 응답과 Retry-After 헤더로 변환
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.security.jwt;
+
+import com.project.security.entity.Authority;
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 축약 Token Claim 형식 (v: 2)
+ * - v: 형식 버전, 없으면 기존 형식(roles: [{"name": "ROLE_USER"}])
+ * - r: 권한 bitmask, ROLES 순서의 bit 위치 (ROLE_USER = 1, ROLE_ADMIN = 2)
+ * - rn: ROLES에 없는 권한 이름 목록 (없으면 생략)
+ * - jti: UUID 16byte를 Base64URL로 인코딩 (36자 → 22자)
+ * 기존 형식 Token도 계속 읽을 수 있으므로 배포 중 두 형식이 함께 사용되어도 문제 없음
+ */
+public final class CompactClaims {
+
+    public static final String VERSION = "v";
+
+    public static final int COMPACT_VERSION = 2;
+
+    public static final String ROLE_BITS = "r";
+
+    public static final String ROLE_NAMES = "rn";
+
+    // bit 위치가 Token에 저장되므로 순서를 변경하지 말고 뒤에 추가
+    private static final List<String> ROLES = List.of("ROLE_USER", "ROLE_ADMIN");
+
+    private CompactClaims() {
+    }
+
+    // 권한 정보를 축약 형식으로 Claim에 추가
+    public static void putRoles(Claims claims, List<Authority> roles) {
+        claims.put(VERSION, COMPACT_VERSION);
+        int bits = 0;
+        List<String> names = null;
+        for (Authority role : roles) {
+            int index = ROLES.indexOf(role.getName());
+            if (index >= 0) {
+                bits |= 1 << index;
+            } else {
+                if (names == null) {
+                    names = new ArrayList<>();
+                }
+                names.add(role.getName());
+            }
+        }
+        claims.put(ROLE_BITS, bits);
+        if (names != null) {
+            claims.put(ROLE_NAMES, names);
+        }
+    }
+
+    public static boolean isCompact(Claims claims) {
+        Object version = claims.get(VERSION);
+        return version instanceof Number && ((Number) version).intValue() >= COMPACT_VERSION;
+    }
+
+    // 축약 형식 Claim에서 권한 이름 목록 추출
+    public static List<String> getRoles(Claims claims) {
+        List<String> roles = new ArrayList<>(2);
+        Object bits = claims.get(ROLE_BITS);
+        if (bits instanceof Number) {
+            int value = ((Number) bits).intValue();
+            for (int i = 0; i < ROLES.size(); i++) {
+                if ((value & (1 << i)) != 0) {
+                    roles.add(ROLES.get(i));
+                }
+            }
+        }
+        Object names = claims.get(ROLE_NAMES);
+        if (names instanceof List) {
+            for (Object name : (List<?>) names) {
+                roles.add(String.valueOf(name));
+            }
+        }
+        return roles;
+    }
+
+    // 22자 Token 식별자(jti)
+    public static String shortId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.security.jwt;
 
 import com.project.security.entity.Member;
+import com.project.security.repository.MemberCredentials;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,6 +20,16 @@ public class CustomUserDetails implements UserDetails {
         this.member = member;
     }
 
+    // 인증용 Projection으로 생성, 인증에 필요한 정보(ID, 이메일, 비밀번호, 권한)만 포함
+    public CustomUserDetails(MemberCredentials credentials) {
+        this(Member.builder()
+                .id(credentials.getId())
+                .email(credentials.getEmail())
+                .password(credentials.getPassword())
+                .roles(credentials.getRoles())
+                .build());
+    }
+
     public final Member getMember() {
         return member;
     }
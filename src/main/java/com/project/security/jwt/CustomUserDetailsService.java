@@ -1,7 +1,11 @@
 package com.project.security.jwt;
 
-import com.project.security.entity.Member;
+import com.project.security.cache.MemberCache;
+import com.project.security.metrics.AuthMetrics;
+import com.project.security.metrics.AuthOutcome;
+import com.project.security.repository.MemberCredentials;
 import com.project.security.repository.MemberRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -14,15 +18,23 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final AuthMetrics authMetrics;
 
     // 주어진 사용자 이름(이메일)을 기반으로 사용자 정보를 검색하고 Spring Security에게 반환
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-        Member member = memberRepository.findByEmail(username).orElseThrow(
-                () -> new UsernameNotFoundException("Invalid authentication!")
+        Timer.Sample sample = authMetrics.start();
+        // 인증에 필요한 컬럼만 조회
+        MemberCredentials credentials = memberCache.getCredentials(username, () -> memberRepository.findCredentialsByEmail(username)).orElseThrow(
+                () -> {
+                    authMetrics.stop(sample, AuthMetrics.USER_LOOKUP, AuthOutcome.USER_NOT_FOUND);
+                    return new UsernameNotFoundException("Invalid authentication!");
+                }
         );
+        authMetrics.stop(sample, AuthMetrics.USER_LOOKUP, AuthOutcome.SUCCESS);
 
-        return new CustomUserDetails(member);
+        return new CustomUserDetails(credentials);
     }
 }
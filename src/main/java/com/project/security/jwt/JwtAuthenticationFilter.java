@@ -1,7 +1,13 @@
 package com.project.security.jwt;
 
+import com.project.security.metrics.AuthMetrics;
+import com.project.security.metrics.AuthOutcome;
+import com.project.security.revocation.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -15,21 +21,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider) {
+    private final TokenRevocationService tokenRevocationService;
+
+    private final AuthMetrics authMetrics;
+
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, TokenRevocationService tokenRevocationService, AuthMetrics authMetrics) {
         this.jwtProvider = jwtProvider;
+        this.tokenRevocationService = tokenRevocationService;
+        this.authMetrics = authMetrics;
     }
 
     // HTTP 요청에 대한 필터링 및 처리, 모든 HTTP 요청에 호출됨
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        String token = jwtProvider.resolveToken(request); // 요청에서 Token 추출
+        Timer.Sample sample = authMetrics.start();
+        String outcome = authenticate(request);
+        authMetrics.stop(sample, AuthMetrics.FILTER, outcome);
 
-        if (token != null && jwtProvider.validateToken(token)) { // Token 유효성 검사
-            token = token.split(" ")[1].trim();
-            Authentication auth = jwtProvider.getAuthentication(token); // 사용자 인증 정보 호출
-            SecurityContextHolder.getContext().setAuthentication(auth); // SecurityContext에 인증 정보 설정
+        filterChain.doFilter(request, response);
+    }
+
+    // 요청의 Token으로 인증 정보를 설정하고 결과 반환
+    private String authenticate(HttpServletRequest request) {
+        String token = jwtProvider.stripBearer(jwtProvider.resolveToken(request)); // 요청에서 Token 추출
+        if (token == null) {
+            return AuthOutcome.MISSING;
         }
 
-        filterChain.doFilter(request, response);
+        TokenInspection inspection = jwtProvider.inspect(token); // Token 유효성 검사, 요청당 한 번만 파싱
+        if (!inspection.isValid()) {
+            return inspection.getReason(); // expired, bad_signature, malformed
+        }
+        Claims claims = inspection.getClaims();
+        if (tokenRevocationService.isRevoked(claims)) { // 폐기된 Token 여부 확인
+            return AuthOutcome.REVOKED;
+        }
+
+        try {
+            Authentication auth = jwtProvider.getAuthentication(claims); // 사용자 인증 정보 호출
+            SecurityContextHolder.getContext().setAuthentication(auth); // SecurityContext에 인증 정보 설정
+        } catch (UsernameNotFoundException e) {
+            return AuthOutcome.USER_NOT_FOUND;
+        }
+        return AuthOutcome.VALID;
     }
 }
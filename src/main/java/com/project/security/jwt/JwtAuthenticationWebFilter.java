@@ -0,0 +1,101 @@
+package com.project.security.jwt;
+
+import com.project.security.metrics.AuthMetrics;
+import com.project.security.metrics.AuthOutcome;
+import com.project.security.revocation.TokenRevocationService;
+import com.project.security.service.BlockingCallScheduler;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+// JwtAuthenticationFilter의 WebFlux 버전
+// Token 검사, Bloom Filter 확인, stateless 인증은 event loop에서 처리하고
+// Redis 폐기 확인(Bloom Filter에 포함된 경우)과 DB 사용자 조회(stateless가 아닌 경우)만 BlockingCallScheduler에서 처리
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private final JwtProvider jwtProvider;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    private final ReactiveUserDetailsService userDetailsService;
+
+    private final BlockingCallScheduler blockingCallScheduler;
+
+    private final AuthMetrics authMetrics;
+
+    public JwtAuthenticationWebFilter(JwtProvider jwtProvider, TokenRevocationService tokenRevocationService,
+                                      ReactiveUserDetailsService userDetailsService, BlockingCallScheduler blockingCallScheduler,
+                                      AuthMetrics authMetrics) {
+        this.jwtProvider = jwtProvider;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userDetailsService = userDetailsService;
+        this.blockingCallScheduler = blockingCallScheduler;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        Timer.Sample sample = authMetrics.start();
+        String token = jwtProvider.stripBearer(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION)); // 요청에서 Token 추출
+        if (token == null) {
+            authMetrics.stop(sample, AuthMetrics.FILTER, AuthOutcome.MISSING);
+            return chain.filter(exchange);
+        }
+
+        TokenInspection inspection = jwtProvider.inspect(token); // Token 유효성 검사, 요청당 한 번만 파싱
+        if (!inspection.isValid()) {
+            authMetrics.stop(sample, AuthMetrics.FILTER, inspection.getReason()); // expired, bad_signature, malformed
+            return chain.filter(exchange);
+        }
+        Claims claims = inspection.getClaims();
+
+        return isRevoked(claims)
+                .flatMap(revoked -> {
+                    if (revoked) { // 폐기된 Token
+                        authMetrics.stop(sample, AuthMetrics.FILTER, AuthOutcome.REVOKED);
+                        return Mono.just(Optional.<Authentication>empty());
+                    }
+                    return authenticate(claims).map(Optional::of);
+                })
+                .onErrorResume(UsernameNotFoundException.class, e -> {
+                    authMetrics.stop(sample, AuthMetrics.FILTER, AuthOutcome.USER_NOT_FOUND);
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(auth -> {
+                    if (auth.isEmpty()) {
+                        return chain.filter(exchange);
+                    }
+                    authMetrics.stop(sample, AuthMetrics.FILTER, AuthOutcome.VALID);
+                    // 요청 처리 동안 Reactor Context에 인증 정보 설정
+                    return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth.get()));
+                });
+    }
+
+    // 폐기된 Token 여부 확인, Bloom Filter에 포함되지 않은 Token은 Redis 조회 없이 통과
+    private Mono<Boolean> isRevoked(Claims claims) {
+        if (!tokenRevocationService.mightBeRevoked(claims)) {
+            return Mono.just(false);
+        }
+        return blockingCallScheduler.call(() -> tokenRevocationService.isRevoked(claims));
+    }
+
+    // 사용자 인증 정보 구성, stateless인 경우 Claim만 사용
+    private Mono<Authentication> authenticate(Claims claims) {
+        if (jwtProvider.isStateless()) {
+            return Mono.just(jwtProvider.getAuthentication(claims));
+        }
+        return userDetailsService.findByUsername(claims.getSubject())
+                .map(userDetails -> new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()));
+    }
+}
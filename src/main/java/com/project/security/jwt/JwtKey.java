@@ -0,0 +1,170 @@
+package com.project.security.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import javax.crypto.Mac;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Key Ring에 등록된 서명 Key, 서명 검증 객체는 스레드 안전하지 않으므로 스레드별로 생성
+public final class JwtKey {
+
+    // Token header의 kid 값, 기존 HS256 Key는 null
+    private final String kid;
+
+    private final SignatureAlgorithm algorithm;
+
+    // 서명용 Key, 검증 전용 Key는 null
+    private final Key signingKey;
+
+    private final Key verificationKey;
+
+    private final Instant notBefore;
+
+    // 서명 길이(byte), 길이가 다른 서명은 검증하지 않고 거절
+    private final int signatureLength;
+
+    private final ThreadLocal<Mac> mac;
+
+    private final ThreadLocal<Signature> signature;
+
+    private JwtKey(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey, Instant notBefore) {
+        this.kid = kid;
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+        this.notBefore = notBefore;
+        switch (algorithm) {
+            case HS256:
+                this.signatureLength = 32;
+                this.mac = ThreadLocal.withInitial(() -> {
+                    try {
+                        Mac instance = Mac.getInstance("HmacSHA256");
+                        instance.init(verificationKey);
+                        return instance;
+                    } catch (GeneralSecurityException e) {
+                        throw new IllegalStateException("HmacSHA256을 사용할 수 없습니다.", e);
+                    }
+                });
+                this.signature = null;
+                break;
+            case ES256:
+                this.signatureLength = 64; // R, S 각 32byte (JWS 형식)
+                this.mac = null;
+                this.signature = verifier("SHA256withECDSAinP1363Format", (PublicKey) verificationKey);
+                break;
+            case RS256:
+                this.signatureLength = (((RSAPublicKey) verificationKey).getModulus().bitLength() + 7) / 8;
+                this.mac = null;
+                this.signature = verifier("SHA256withRSA", (PublicKey) verificationKey);
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 서명 알고리즘입니다: " + algorithm);
+        }
+    }
+
+    // 기존 HS256 Key
+    static JwtKey hmac(Key secretKey) {
+        return new JwtKey(null, SignatureAlgorithm.HS256, secretKey, secretKey, Instant.EPOCH);
+    }
+
+    // 비대칭 Key, privateKey가 null이면 검증 전용
+    static JwtKey asymmetric(String kid, SignatureAlgorithm algorithm, PrivateKey privateKey, PublicKey publicKey, Instant notBefore) {
+        return new JwtKey(kid, algorithm, privateKey, publicKey, notBefore);
+    }
+
+    private static ThreadLocal<Signature> verifier(String name, PublicKey publicKey) {
+        return ThreadLocal.withInitial(() -> {
+            try {
+                Signature instance = Signature.getInstance(name);
+                instance.initVerify(publicKey);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(name + "을 사용할 수 없습니다.", e);
+            }
+        });
+    }
+
+    // 서명 검증, 잘못된 서명은 예외 없이 false 반환
+    boolean verify(byte[] content, byte[] signatureBytes) {
+        if (signatureBytes.length != signatureLength) {
+            return false;
+        }
+        if (mac != null) {
+            return MessageDigest.isEqual(mac.get().doFinal(content), signatureBytes);
+        }
+        Signature instance = signature.get();
+        try {
+            instance.update(content);
+            return instance.verify(signatureBytes);
+        } catch (GeneralSecurityException e) {
+            signature.remove(); // 상태가 남아 있을 수 있으므로 다음 검증 시 새로 생성
+            return false;
+        }
+    }
+
+    // JWKS 항목 (공개 Key), HS256 Key는 공개하지 않으므로 null
+    Map<String, Object> toJwk() {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (verificationKey instanceof ECPublicKey) {
+            ECPublicKey ec = (ECPublicKey) verificationKey;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(ec.getW().getAffineX(), 32));
+            jwk.put("y", base64Url(ec.getW().getAffineY(), 32));
+        } else if (verificationKey instanceof RSAPublicKey) {
+            RSAPublicKey rsa = (RSAPublicKey) verificationKey;
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsa.getModulus(), 0));
+            jwk.put("e", base64Url(rsa.getPublicExponent(), 0));
+        } else {
+            return null;
+        }
+        jwk.put("kid", kid);
+        jwk.put("alg", algorithm.getValue());
+        jwk.put("use", "sig");
+        return jwk;
+    }
+
+    // 부호 없는 big-endian 값으로 인코딩, length가 0보다 크면 해당 길이로 맞춤
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (length > bytes.length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public String getKid() {
+        return kid;
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    public Instant getNotBefore() {
+        return notBefore;
+    }
+}
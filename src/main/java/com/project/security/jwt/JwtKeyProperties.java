@@ -0,0 +1,45 @@
+package com.project.security.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// application.yml jwt.signing 설정값, 비대칭 서명 Key Ring
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtKeyProperties {
+
+    // kid가 없는 기존 HS256(jwt.secret.key) Token 허용 여부
+    private boolean acceptLegacy = true;
+
+    // JWKS 응답 캐시 시간(초)
+    private long jwksMaxAgeSeconds = 300;
+
+    // 서명 Key 목록, 비어 있으면 기존 HS256 Key로 서명
+    private List<KeyEntry> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class KeyEntry {
+
+        // Token header의 kid 값
+        private String kid;
+
+        // ES256 또는 RS256
+        private String algorithm = "ES256";
+
+        // PKCS#8 PEM 개인 Key, 없으면 검증 전용 (교체 후 기존 Token 만료를 기다리는 Key)
+        private String privateKey;
+
+        // X.509 PEM 공개 Key
+        private String publicKey;
+
+        // 서명 시작 시각, JWKS에는 먼저 공개되므로 다른 서비스가 미리 Key를 받아둘 수 있음
+        private Instant notBefore = Instant.EPOCH;
+    }
+}
@@ -0,0 +1,148 @@
+package com.project.security.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * kid 기준 서명 Key 목록
+ * 서명: notBefore가 지난 Key 중 가장 최근 Key 사용, 설정된 Key가 없으면 기존 HS256(jwt.secret.key) Key 사용
+ * 검증: Token header의 kid로 Key 조회, kid가 없으면 기존 HS256 Key 사용
+ * Key 교체 절차
+ * 1. 새 Key를 notBefore(현재 + JWKS 캐시 시간 이상)와 함께 추가 → JWKS에 먼저 공개되어 다른 서비스가 미리 받아둠
+ * 2. notBefore 이후 새 Key로 서명 시작, 이전 Key는 privateKey를 제거하여 검증 전용으로 유지
+ * 3. 이전 Key로 서명된 Token이 모두 만료된 후 제거
+ */
+@Component
+public class JwtKeyRing {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // kid가 없는 기존 HS256 Key, 허용하지 않는 경우 null
+    private final JwtKey legacyKey;
+
+    // 기존 HS256 서명 Key (설정된 Key가 없는 경우 사용)
+    private final JwtKey defaultKey;
+
+    private final Map<String, JwtKey> keys = new HashMap<>();
+
+    // 서명 가능한 Key, notBefore 내림차순
+    private final List<JwtKey> signingKeys = new ArrayList<>();
+
+    private final String jwksJson;
+
+    private final String jwksETag;
+
+    private final long jwksMaxAgeSeconds;
+
+    public JwtKeyRing(JwtKeyProperties properties, @Value("${jwt.secret.key}") String secret) {
+        // application.yml에 설정한 secret key값을 바이트 배열로 변환 후, 이를 기반으로 HMAC-SHA알고리즘을 사용하여 암호화 된 비밀키(secretKey) 생성
+        this.defaultKey = JwtKey.hmac(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
+        this.legacyKey = properties.isAcceptLegacy() || properties.getKeys().isEmpty() ? defaultKey : null;
+        this.jwksMaxAgeSeconds = properties.getJwksMaxAgeSeconds();
+
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (JwtKeyProperties.KeyEntry entry : properties.getKeys()) {
+            JwtKey key = load(entry);
+            if (keys.put(key.getKid(), key) != null) {
+                throw new IllegalStateException("중복된 kid입니다: " + key.getKid());
+            }
+            if (key.getSigningKey() != null) {
+                signingKeys.add(key);
+            }
+            jwks.add(key.toJwk());
+        }
+        signingKeys.sort(Comparator.comparing(JwtKey::getNotBefore).reversed());
+
+        try {
+            this.jwksJson = OBJECT_MAPPER.writeValueAsString(Collections.singletonMap("keys", jwks));
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jwksJson.getBytes(StandardCharsets.UTF_8));
+            this.jwksETag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (JsonProcessingException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWKS를 생성할 수 없습니다.", e);
+        }
+    }
+
+    // 현재 서명에 사용할 Key
+    public JwtKey signingKey() {
+        Instant now = Instant.now();
+        for (JwtKey key : signingKeys) {
+            if (!key.getNotBefore().isAfter(now)) {
+                return key;
+            }
+        }
+        return defaultKey;
+    }
+
+    // kid로 검증 Key 조회, 없으면 null
+    public JwtKey find(String kid) {
+        return kid == null ? legacyKey : keys.get(kid);
+    }
+
+    public String getJwksJson() {
+        return jwksJson;
+    }
+
+    public String getJwksETag() {
+        return jwksETag;
+    }
+
+    public long getJwksMaxAgeSeconds() {
+        return jwksMaxAgeSeconds;
+    }
+
+    private static JwtKey load(JwtKeyProperties.KeyEntry entry) {
+        if (entry.getKid() == null || entry.getPublicKey() == null) {
+            throw new IllegalStateException("jwt.signing.keys 항목에는 kid, public-key가 필요합니다.");
+        }
+        SignatureAlgorithm algorithm;
+        String keyAlgorithm;
+        switch (entry.getAlgorithm()) {
+            case "ES256":
+                algorithm = SignatureAlgorithm.ES256;
+                keyAlgorithm = "EC";
+                break;
+            case "RS256":
+                algorithm = SignatureAlgorithm.RS256;
+                keyAlgorithm = "RSA";
+                break;
+            default:
+                throw new IllegalStateException("지원하지 않는 서명 알고리즘입니다(ES256, RS256): " + entry.getAlgorithm());
+        }
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm);
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(pem(entry.getPublicKey())));
+            PrivateKey privateKey = entry.getPrivateKey() == null ? null
+                    : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(pem(entry.getPrivateKey())));
+            return JwtKey.asymmetric(entry.getKid(), algorithm, privateKey, publicKey, entry.getNotBefore());
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("서명 Key를 읽을 수 없습니다: " + entry.getKid(), e);
+        }
+    }
+
+    // PEM 문자열에서 header, footer, 공백을 제거하고 DER 바이트 배열로 변환
+    private static byte[] pem(String pem) {
+        String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Token Claim 정보만으로 구성하는 경량 사용자 정보
+// DB 조회 없이 인증하기 위해 CustomUserDetails(Member) 대신 사용
+public class JwtPrincipal implements AuthenticatedPrincipal {
+
+    private final String email;
+
+    private final List<GrantedAuthority> authorities;
+
+    public JwtPrincipal(String email, List<String> roles) {
+        this.email = email;
+        this.authorities = roles.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toUnmodifiableList());
+    }
+
+    // 검증된 Claim에서 사용자 이메일, 권한 정보 추출
+    public static JwtPrincipal from(Claims claims) {
+        return new JwtPrincipal(claims.getSubject(), getRoles(claims));
+    }
+
+    // 축약 형식(v: 2)은 권한 bitmask, 기존 형식은 Authority 객체가 직렬화된 형태({"name": "ROLE_USER"})로 저장됨
+    public static List<String> getRoles(Claims claims) {
+        if (CompactClaims.isCompact(claims)) {
+            return CompactClaims.getRoles(claims);
+        }
+        List<?> roles = claims.get("roles", List.class);
+        if (roles == null) {
+            return Collections.emptyList();
+        }
+        return roles.stream()
+                .filter(o -> o instanceof Map)
+                .map(o -> String.valueOf(((Map<?, ?>) o).get("name")))
+                .collect(Collectors.toList());
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
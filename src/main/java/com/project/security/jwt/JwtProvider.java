@@ -1,10 +1,15 @@
 package com.project.security.jwt;
 
 import com.project.security.entity.Authority;
-import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import com.project.security.metrics.AuthMetrics;
+import com.project.security.metrics.AuthOutcome;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,64 +17,123 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtProvider {
 
-    // application.yml jwt.secret.key 설정값
-    @Value("${jwt.secret.key}")
-    private String salt;
+    // application.yml jwt.stateless 설정값, true인 경우 DB 조회 없이 Token Claim만으로 인증 정보 구성
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
 
-    private Key secretKey;
+    // 검증된 Token 캐시 최대 크기, 0인 경우 캐시 사용하지 않음
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
+    // true인 경우 축약 Claim 형식(CompactClaims)으로 발급, 검증은 두 형식 모두 지원
+    @Value("${jwt.compact:false}")
+    private boolean compact;
+
+    // 예외 없이 Token 형식, 서명, 만료시간 검사
+    private TokenInspector tokenInspector;
+
+    private VerifiedTokenCache verifiedTokenCache;
 
     // Token 만료시간 설정
     private final long exp = 60 * 1000L;
 
     private final CustomUserDetailsService userDetailsService;
 
-    // Secret Key 암호화
+    private final AuthMetrics authMetrics;
+
+    // kid별 서명 Key 목록
+    private final JwtKeyRing keyRing;
+
     @PostConstruct
     protected void init() {
-        // application.yml에 설정한 secret key값을 바이트 배열로 변환 후, 이를 기반으로 HMAC-SHA알고리즘을 사용하여 암호화 된 비밀키(secretKey) 생성
-        secretKey = Keys.hmacShaKeyFor(salt.getBytes(StandardCharsets.UTF_8));
+        tokenInspector = new TokenInspector(keyRing);
+        verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
     }
 
     // Token 생성
     public String createToken(String email, List<Authority> roles) {
         Claims claims = Jwts.claims().setSubject(email); // Claim 설정, Claim: JWT 내에 포함되는 점보
-        claims.put("roles", roles); // roles Claim에 권한(roles) 정보 추가
+        if (compact) {
+            CompactClaims.putRoles(claims, roles); // 형식 버전(v), 권한 bitmask(r) 추가
+        } else {
+            claims.put("roles", roles); // roles Claim에 권한(roles) 정보 추가
+        }
         Date now = new Date(); // 현재 시간 정보
-        return Jwts.builder()
+        JwtKey key = keyRing.signingKey(); // 현재 서명 Key
+        Timer.Sample sample = authMetrics.start();
+        JwtBuilder builder = Jwts.builder();
+        if (key.getKid() != null) {
+            builder.setHeaderParam("kid", key.getKid()); // 검증 시 Key 조회에 사용
+        }
+        String token = builder
                 .setClaims(claims) // Claim 정보 설정
+                .setId(compact ? CompactClaims.shortId() : UUID.randomUUID().toString()) // Token 식별자(jti) 설정, Token 단위 폐기에 사용
                 .setIssuedAt(now) // Token 발행 시간 설정
                 .setExpiration(new Date(now.getTime() + exp)) // Token 만료 시간 설정
-                .signWith(secretKey, SignatureAlgorithm.HS256) // JWT 서명에 사용할 비밀키, 서명 알고리즘 설정
-                .compact(); // JWT 생성, 반환
+                .signWith(key.getSigningKey(), key.getAlgorithm()) // JWT 서명에 사용할 Key, 서명 알고리즘 설정
+                .compact(); // JWT 생성
+        authMetrics.stop(sample, AuthMetrics.TOKEN_SIGN, AuthOutcome.SUCCESS);
+        return token;
+    }
+
+    // Access Token 유효기간(ms)
+    public long getExpirationMillis() {
+        return exp;
     }
 
-    // Token에서 인증 정보 조회
+    // true인 경우 getAuthentication(Claims)은 DB를 조회하지 않음
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    // Token에서 인증 정보 조회, 서명이 유효하지 않은 Token이면 BadCredentialsException 발생
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getEmail(token));
+        Claims claims = inspect(token).getClaims();
+        if (claims == null) {
+            throw new BadCredentialsException("잘못된 계정정보입니다.");
+        }
+        return getAuthentication(claims);
+    }
+
+    // 검증된 Claim에서 인증 정보 조회
+    public Authentication getAuthentication(Claims claims) {
+        if (stateless) {
+            // 서명 검증된 Claim의 sub, roles 정보로 인증 정보 구성
+            JwtPrincipal principal = JwtPrincipal.from(claims);
+            return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
-    // Token에서 사용자 이메일 주소 추출
+    // Token에서 사용자 이메일 주소 추출, 만료된 Token도 서명이 유효하면 추출하며 유효하지 않으면 null 반환
     public String getEmail(String token) {
-        // 만료된 Token에 대해 parseClaimsJws를 수행 시 io.jsonwebtoken.ExpiredJwtException 발생
-        try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody().getSubject();
-        } catch (ExpiredJwtException e) {
-            e.printStackTrace();
-            return e.getClaims().getSubject();
-        } catch (Exception e) {
-            e.printStackTrace();
+        Claims claims = inspect(token).getClaims();
+        return claims == null ? null : claims.getSubject();
+    }
+
+    // Token 검사 결과 반환, 유효/만료/무효 여부를 예외 없이 결과 값으로 전달
+    // 최근 검증된 Token은 서명 검증을 생략
+    public TokenInspection inspect(String token) {
+        Claims cached = token == null ? null : verifiedTokenCache.get(token);
+        if (cached != null) {
+            return TokenInspection.valid(cached);
+        }
+        Timer.Sample sample = authMetrics.start();
+        TokenInspection inspection = tokenInspector.inspect(token, System.currentTimeMillis());
+        authMetrics.stop(sample, AuthMetrics.TOKEN_PARSE, inspection.getReason());
+        if (inspection.isValid()) {
+            verifiedTokenCache.put(token, inspection.getClaims());
         }
-        return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody().getSubject();
+        return inspection;
     }
 
     // Authorization Header를 통해 인증
@@ -77,19 +141,25 @@ public class JwtProvider {
         return request.getHeader("Authorization");
     }
 
+    // Authorization Header 값에서 Bearer 접두사를 제거한 Token 반환, 형식이 맞지 않으면 null 반환
+    public String stripBearer(String header) {
+        if (header == null || !header.regionMatches(true, 0, "BEARER ", 0, "BEARER ".length())) {
+            return null;
+        }
+        String token = header.substring("BEARER ".length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    // Token 검증 후 Claim 반환, 유효하지 않거나 만료된 Token이면 null 반환
+    public Claims verify(String token) {
+        TokenInspection inspection = inspect(token);
+        return inspection.isValid() ? inspection.getClaims() : null;
+    }
+
     // Token 검증
     public boolean validateToken(String token) {
-        try {
-            // Bearer 검증
-            if (!token.substring(0, "BEARER ".length()).equalsIgnoreCase("BEARER ")) {
-                return false;
-            } else {
-                token = token.split(" ")[1].trim();
-            }
-            Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token); // Token 서명 검증
-            return !claims.getBody().getExpiration().before(new Date()); // Token 만료 시간 검증
-        } catch (Exception e) {
-            return false;
-        }
+        // Bearer 검증
+        String jwt = stripBearer(token);
+        return jwt != null && verify(jwt) != null;
     }
 }
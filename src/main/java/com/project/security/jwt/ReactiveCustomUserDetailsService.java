@@ -0,0 +1,42 @@
+package com.project.security.jwt;
+
+import com.project.security.cache.MemberCache;
+import com.project.security.metrics.AuthMetrics;
+import com.project.security.metrics.AuthOutcome;
+import com.project.security.repository.MemberCredentials;
+import com.project.security.service.BlockingCallScheduler;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+// CustomUserDetailsService의 WebFlux 버전
+// 캐시에 있는 사용자는 event loop에서 바로 반환하고, 없는 경우에만 BlockingCallScheduler에서 DB 조회
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveCustomUserDetailsService implements ReactiveUserDetailsService {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final MemberCache memberCache;
+    private final AuthMetrics authMetrics;
+    private final BlockingCallScheduler blockingCallScheduler;
+
+    // 사용자가 없는 경우 UsernameNotFoundException으로 완료
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        Timer.Sample sample = authMetrics.start();
+        Optional<MemberCredentials> cached = memberCache.peekCredentials(username);
+        if (cached.isPresent()) {
+            authMetrics.stop(sample, AuthMetrics.USER_LOOKUP, AuthOutcome.SUCCESS);
+            return Mono.just(new CustomUserDetails(cached.get()));
+        }
+        // 조회 시간은 CustomUserDetailsService에서 기록
+        return blockingCallScheduler.call(() -> userDetailsService.loadUserByUsername(username));
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.security.jwt;
+
+import com.project.security.metrics.AuthOutcome;
+import io.jsonwebtoken.Claims;
+
+// Token 검사 결과, 예외 대신 결과 값으로 유효/만료/무효 상태 전달
+public final class TokenInspection {
+
+    public enum Status {
+        VALID, // 서명, 만료시간 모두 유효
+        EXPIRED, // 서명은 유효하지만 만료됨 (Claim 포함)
+        INVALID // 형식 또는 서명이 잘못됨
+    }
+
+    private final Status status;
+
+    private final Claims claims;
+
+    // 결과 사유 (AuthOutcome 값)
+    private final String reason;
+
+    private TokenInspection(Status status, Claims claims, String reason) {
+        this.status = status;
+        this.claims = claims;
+        this.reason = reason;
+    }
+
+    public static TokenInspection valid(Claims claims) {
+        return new TokenInspection(Status.VALID, claims, AuthOutcome.VALID);
+    }
+
+    public static TokenInspection expired(Claims claims) {
+        return new TokenInspection(Status.EXPIRED, claims, AuthOutcome.EXPIRED);
+    }
+
+    public static TokenInspection invalid(String reason) {
+        return new TokenInspection(Status.INVALID, null, reason);
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    // 서명이 유효한 경우(만료 여부 무관) Claim, 무효한 경우 null
+    public Claims getClaims() {
+        return claims;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
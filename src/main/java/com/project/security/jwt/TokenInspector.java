@@ -0,0 +1,127 @@
+package com.project.security.jwt;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.project.security.metrics.AuthOutcome;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예외 없이 Token 형식, 서명, 만료시간 검사
+ * 1. 형식 검사: 세 부분(header.payload.signature), Base64URL 문자, 최대 길이
+ * 2. 서명 검사: header의 kid로 Key Ring에서 Key를 찾아 header.payload 서명 검증
+ * 3. 서명이 유효한 경우에만 payload를 해석하고 만료시간 비교
+ * 잘못된 Token은 예외 생성 없이 결과 값으로 거절되므로 비정상 요청이 많아도 비용이 적음
+ * header는 검증에 성공한 값을 캐시하므로 정상 Token은 header JSON도 다시 해석하지 않음
+ */
+final class TokenInspector {
+
+    // 허용하는 Token 최대 길이
+    private static final int MAX_TOKEN_LENGTH = 8 * 1024;
+
+    // header 값별 Key 캐시 최대 크기, 발급하는 header 종류는 Key 수만큼이므로 작게 유지
+    private static final int MAX_HEADER_CACHE_SIZE = 64;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
+    private final JwtKeyRing keyRing;
+
+    // 서명 검증에 성공한 header 값 → Key, 같은 header의 JSON 해석 생략
+    private final Map<String, JwtKey> headerKeys = new ConcurrentHashMap<>();
+
+    TokenInspector(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    TokenInspection inspect(String token, long nowMillis) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return TokenInspection.invalid(AuthOutcome.MALFORMED);
+        }
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        if (first <= 0 || second <= first + 1 || second == token.length() - 1 || token.indexOf('.', second + 1) >= 0) {
+            return TokenInspection.invalid(AuthOutcome.MALFORMED);
+        }
+        if (!isBase64Url(token, 0, first) || !isBase64Url(token, first + 1, second) || !isBase64Url(token, second + 1, token.length())) {
+            return TokenInspection.invalid(AuthOutcome.MALFORMED);
+        }
+
+        String header = token.substring(0, first);
+        JwtKey key = headerKeys.get(header);
+        boolean cachedHeader = key != null;
+        if (!cachedHeader) {
+            JsonNode kid = readHeader(header);
+            if (kid == null || !(kid.isNull() || kid.isTextual())) {
+                return TokenInspection.invalid(AuthOutcome.MALFORMED);
+            }
+            key = keyRing.find(kid.isNull() ? null : kid.asText());
+            if (key == null) {
+                return TokenInspection.invalid(AuthOutcome.UNKNOWN_KEY);
+            }
+        }
+
+        byte[] signature = Base64.getUrlDecoder().decode(token.substring(second + 1));
+        if (!key.verify(token.substring(0, second).getBytes(StandardCharsets.US_ASCII), signature)) {
+            return TokenInspection.invalid(AuthOutcome.BAD_SIGNATURE);
+        }
+        if (!cachedHeader && headerKeys.size() < MAX_HEADER_CACHE_SIZE) {
+            headerKeys.put(header, key);
+        }
+
+        // 서명이 유효하면 이 서버에서 발급한 Token이므로 payload 해석은 실패하지 않음
+        Claims claims;
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(first + 1, second));
+            claims = Jwts.claims(OBJECT_MAPPER.readValue(payload, CLAIMS_TYPE));
+        } catch (IOException e) {
+            return TokenInspection.invalid(AuthOutcome.MALFORMED);
+        }
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null && nowMillis > expiration.getTime()) {
+            return TokenInspection.expired(claims);
+        }
+        return TokenInspection.valid(claims);
+    }
+
+    // header의 kid 값 조회, kid가 없으면 NullNode, 형식이 잘못된 경우 null
+    private static JsonNode readHeader(String header) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(header));
+            if (node == null || !node.isObject()) {
+                return null;
+            }
+            JsonNode kid = node.get("kid");
+            return kid == null ? NullNode.getInstance() : kid;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // Base64URL(패딩 없음) 문자열 여부
+    private static boolean isBase64Url(String s, int from, int to) {
+        if ((to - from) % 4 == 1) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            boolean valid = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.security.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 단계별 Timer, Counter
+ * 태그는 outcome(결과), operation(작업 종류)만 사용하여 카디널리티를 낮게 유지
+ * Timer는 Prometheus에서 백분위 계산이 가능하도록 히스토그램을 함께 기록
+ */
+@Component
+public class AuthMetrics {
+
+    // 인증 필터 전체 처리 시간
+    public static final String FILTER = "auth.filter";
+    // Token 파싱 및 서명 검증
+    public static final String TOKEN_PARSE = "jwt.parse";
+    // Token 서명 (생성)
+    public static final String TOKEN_SIGN = "jwt.sign";
+    // CustomUserDetailsService 사용자 조회
+    public static final String USER_LOOKUP = "auth.user.lookup";
+    // Refresh Token Redis 요청
+    public static final String REDIS = "auth.redis";
+    // 비밀번호 암호화, 검증
+    public static final String PASSWORD = "auth.password";
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void stop(Timer.Sample sample, String name, String outcome) {
+        sample.stop(timer(name, "none", outcome));
+    }
+
+    public void stop(Timer.Sample sample, String name, String operation, String outcome) {
+        sample.stop(timer(name, operation, outcome));
+    }
+
+    public void increment(String name, String outcome) {
+        counters.computeIfAbsent(name + '|' + outcome, key -> Counter.builder(name)
+                .tag("outcome", outcome)
+                .register(registry)).increment();
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    private Timer timer(String name, String operation, String outcome) {
+        return timers.computeIfAbsent(name + '|' + operation + '|' + outcome, key -> Timer.builder(name)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+}
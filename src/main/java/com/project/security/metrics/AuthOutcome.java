@@ -0,0 +1,21 @@
+package com.project.security.metrics;
+
+// 인증 단계별 결과 태그 값
+public final class AuthOutcome {
+
+    public static final String VALID = "valid";
+    public static final String EXPIRED = "expired";
+    public static final String BAD_SIGNATURE = "bad_signature";
+    public static final String MALFORMED = "malformed";
+    public static final String UNKNOWN_KEY = "unknown_key";
+    public static final String USER_NOT_FOUND = "user_not_found";
+    public static final String REVOKED = "revoked";
+    public static final String INVALID = "invalid";
+    public static final String MISSING = "missing";
+    public static final String SUCCESS = "success";
+    public static final String MISMATCH = "mismatch";
+    public static final String ERROR = "error";
+
+    private AuthOutcome() {
+    }
+}
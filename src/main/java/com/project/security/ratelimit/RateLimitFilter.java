@@ -0,0 +1,74 @@
+package com.project.security.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 경로별 요청 수 제한 필터, JwtAuthenticationFilter보다 먼저 실행되어 제한된 요청은 비밀번호 검증까지 도달하지 않음
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // 이메일 추출을 위해 읽는 요청 본문 최대 크기 (RateLimitWebFilter와 같음)
+    static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private final RateLimiter rateLimiter;
+
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getServletPath();
+        RateLimitProperties.PathLimit limit = rateLimiter.getLimit(path);
+        if (limit == null) { // 제한 대상 경로가 아닌 경우
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Content-Length 유무(chunked 전송 등)와 관계없이 최대 크기까지 읽고, 초과하면 제한 확인 전에 거부
+        // (큰 본문으로 이메일별 제한을 우회하지 못하도록)
+        byte[] body = request.getContentLengthLong() > MAX_BODY_BYTES
+                ? null
+                : request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body == null || body.length > MAX_BODY_BYTES) {
+            writeError(response, 413, "요청 본문이 너무 큽니다.");
+            return;
+        }
+        String email = body.length > 0 ? extractEmail(objectMapper, body) : null;
+
+        if (!rateLimiter.tryAcquire(path, limit, request.getRemoteAddr(), email)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            writeError(response, 429, "요청이 너무 많습니다. 잠시 후 다시 시도하세요.");
+            return;
+        }
+
+        filterChain.doFilter(new CachedBodyHttpServletRequest(request, body), response);
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setCharacterEncoding("utf-8");
+        response.setContentType("text/html; charset=UTF-8");
+        response.getWriter().write(message);
+    }
+
+    // JSON 요청 본문의 email 값 추출, 형식이 맞지 않으면 null
+    static String extractEmail(ObjectMapper objectMapper, byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().toLowerCase() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
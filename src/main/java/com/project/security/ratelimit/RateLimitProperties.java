@@ -0,0 +1,47 @@
+package com.project.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// application.yml rate-limit 설정값, 경로별 요청 수 제한
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 로컬 Token Bucket 잠금 분할 수
+    private int stripes = 64;
+
+    // 분할당 최대 Bucket 수, 초과 시 가장 오래 사용하지 않은 Bucket 제거
+    private int maxBucketsPerStripe = 10000;
+
+    // Redis 장애 발생 시 Redis 요청을 생략하는 시간(초)
+    private long redisBackoffSeconds = 5;
+
+    // 요청 경로별 제한 설정 (예: /login, /refresh)
+    private Map<String, PathLimit> paths = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class PathLimit {
+
+        // 클라이언트 IP별 로컬 Token Bucket (최대 요청 수, 초당 충전 수)
+        private int ipCapacity = 20;
+        private double ipRefillPerSecond = 1;
+
+        // 이메일별 로컬 Token Bucket
+        private int emailCapacity = 5;
+        private double emailRefillPerSecond = 0.1;
+
+        // 전체 서버 기준 Redis Sliding Window, 0인 경우 사용하지 않음
+        private int globalLimit = 0;
+        private int globalEmailLimit = 0;
+        private long windowSeconds = 60;
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.security.exception.TooManyRequestsException;
+import com.project.security.service.BlockingCallScheduler;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+// RateLimitFilter의 WebFlux 버전, JwtAuthenticationWebFilter보다 먼저 실행되어 제한된 요청은 비밀번호 검증까지 도달하지 않음
+public class RateLimitWebFilter implements WebFilter {
+
+    private final RateLimiter rateLimiter;
+
+    private final ObjectMapper objectMapper;
+
+    private final BlockingCallScheduler blockingCallScheduler;
+
+    public RateLimitWebFilter(RateLimiter rateLimiter, ObjectMapper objectMapper, BlockingCallScheduler blockingCallScheduler) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.blockingCallScheduler = blockingCallScheduler;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+        RateLimitProperties.PathLimit limit = rateLimiter.getLimit(path);
+        if (limit == null) { // 제한 대상 경로가 아닌 경우
+            return chain.filter(exchange);
+        }
+        if (request.getHeaders().getContentLength() > RateLimitFilter.MAX_BODY_BYTES) {
+            return write(exchange, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다.");
+        }
+
+        // Content-Length 유무(chunked 전송 등)와 관계없이 최대 크기까지 읽고, 초과하면 제한 확인 전에 거부
+        return DataBufferUtils.join(request.getBody(), RateLimitFilter.MAX_BODY_BYTES)
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> {
+                    String email = body.length > 0 ? RateLimitFilter.extractEmail(objectMapper, body) : null;
+                    return acquire(path, limit, clientIp(request), email)
+                            .flatMap(allowed -> allowed
+                                    ? chain.filter(exchange.mutate().request(new CachedBodyRequest(request, body)).build())
+                                    : tooManyRequests(exchange, 1));
+                })
+                .onErrorResume(DataBufferLimitException.class, e -> write(exchange, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다."))
+                .onErrorResume(TooManyRequestsException.class, e -> tooManyRequests(exchange, e.getRetryAfterSeconds()));
+    }
+
+    // 로컬 제한만 있는 경로는 현재 스레드에서 확인, 전역 제한(Redis)이 있으면 BlockingCallScheduler에서 확인
+    private Mono<Boolean> acquire(String path, RateLimitProperties.PathLimit limit, String clientIp, String email) {
+        if (limit.getGlobalLimit() > 0 || limit.getGlobalEmailLimit() > 0) {
+            return blockingCallScheduler.call(() -> rateLimiter.tryAcquire(path, limit, clientIp, email));
+        }
+        return Mono.fromSupplier(() -> rateLimiter.tryAcquire(path, limit, clientIp, email));
+    }
+
+    private static Mono<Void> tooManyRequests(ServerWebExchange exchange, long retryAfterSeconds) {
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return write(exchange, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도하세요.");
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, HttpStatus status, String message) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8));
+        DataBuffer body = response.bufferFactory().wrap(message.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(body));
+    }
+
+    private static String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress == null || remoteAddress.getAddress() == null ? "" : remoteAddress.getAddress().getHostAddress();
+    }
+
+    // 이미 읽은 요청 본문을 이후 처리(Controller)에서 다시 읽을 수 있도록 제공
+    private static class CachedBodyRequest extends ServerHttpRequestDecorator {
+
+        private final byte[] body;
+
+        CachedBodyRequest(ServerHttpRequest delegate, byte[] body) {
+            super(delegate);
+            this.body = body;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> body.length == 0
+                    ? Flux.empty()
+                    : Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.project.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 경로별 요청 수 제한
+ * 1단계: 서버 로컬 Token Bucket (클라이언트 IP별, 이메일별)
+ * 2단계: Redis Sliding Window (전체 서버 기준 경로별, 이메일별)
+ * Redis 장애 시에는 로컬 제한만 적용
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rateLimit:";
+
+    // 모든 키의 Window에 여유가 있을 때만 요청을 기록 (정렬 집합의 score는 요청 시각(ms))
+    // KEYS: 제한 키 목록, ARGV[1]: 현재 시각, ARGV[2]: Window(ms), ARGV[3]: 요청 ID, ARGV[4..]: 키별 최대 요청 수
+    private static final RedisScript<Long> SLIDING_WINDOW = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local window = tonumber(ARGV[2]) " +
+            "for i, key in ipairs(KEYS) do " +
+            "  redis.call('ZREMRANGEBYSCORE', key, 0, now - window) " +
+            "  if redis.call('ZCARD', key) >= tonumber(ARGV[3 + i]) then return 0 end " +
+            "end " +
+            "for i, key in ipairs(KEYS) do " +
+            "  redis.call('ZADD', key, now, ARGV[3]) " +
+            "  redis.call('PEXPIRE', key, window) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    private final RateLimitProperties properties;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final StripedTokenBuckets buckets;
+
+    private final MeterRegistry meterRegistry;
+
+    // Redis 요청을 다시 시도할 시각, 장애 중 매 요청마다 연결 대기하지 않도록 일정 시간 생략
+    private volatile long redisRetryAt = 0L;
+
+    public RateLimiter(RateLimitProperties properties, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.buckets = new StripedTokenBuckets(properties.getStripes(), properties.getMaxBucketsPerStripe());
+    }
+
+    // 제한 대상 경로의 설정 조회, 대상이 아니면 null
+    public RateLimitProperties.PathLimit getLimit(String path) {
+        return properties.isEnabled() ? properties.getPaths().get(path) : null;
+    }
+
+    // 요청 허용 여부, email은 없으면 null
+    public boolean tryAcquire(String path, RateLimitProperties.PathLimit limit, String clientIp, String email) {
+        if (!buckets.tryAcquire("ip:" + path + ':' + clientIp, limit.getIpCapacity(), limit.getIpRefillPerSecond())) {
+            return reject(path, "ip");
+        }
+        if (email != null && !buckets.tryAcquire("email:" + path + ':' + email, limit.getEmailCapacity(), limit.getEmailRefillPerSecond())) {
+            return reject(path, "email");
+        }
+        if (!tryAcquireGlobal(path, limit, email)) {
+            return reject(path, "global");
+        }
+        return true;
+    }
+
+    private boolean tryAcquireGlobal(String path, RateLimitProperties.PathLimit limit, String email) {
+        List<String> keys = new ArrayList<>(2);
+        List<String> args = new ArrayList<>(5);
+        long now = System.currentTimeMillis();
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(limit.getWindowSeconds() * 1000L));
+        args.add(now + ":" + UUID.randomUUID());
+        if (limit.getGlobalLimit() > 0) {
+            keys.add(KEY_PREFIX + path);
+            args.add(String.valueOf(limit.getGlobalLimit()));
+        }
+        if (email != null && limit.getGlobalEmailLimit() > 0) {
+            keys.add(KEY_PREFIX + path + ":email:" + email);
+            args.add(String.valueOf(limit.getGlobalEmailLimit()));
+        }
+        if (keys.isEmpty() || System.currentTimeMillis() < redisRetryAt) {
+            return true;
+        }
+        try {
+            Long result = redisTemplate.execute(SLIDING_WINDOW, keys, args.toArray());
+            return result == null || result == 1;
+        } catch (Exception e) {
+            // Redis 장애 시 로컬 제한만 적용
+            redisRetryAt = System.currentTimeMillis() + properties.getRedisBackoffSeconds() * 1000L;
+            log.warn("Redis rate limit unavailable, falling back to local limits: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private boolean reject(String path, String tier) {
+        Counter.builder("rate.limit.rejected")
+                .tag("path", path)
+                .tag("tier", tier)
+                .register(meterRegistry)
+                .increment();
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.security.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 키(IP, 이메일)별 Token Bucket
+// 키의 해시값으로 분할(stripe)을 선택하고 분할마다 별도 잠금을 사용하여 스레드 간 경합을 줄임
+public class StripedTokenBuckets {
+
+    private final Stripe[] stripes;
+
+    public StripedTokenBuckets(int stripeCount, int maxBucketsPerStripe) {
+        this.stripes = new Stripe[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(Math.max(1, maxBucketsPerStripe));
+        }
+    }
+
+    // Token 하나 사용, 남은 Token이 없으면 false
+    public boolean tryAcquire(String key, int capacity, double refillPerSecond) {
+        Stripe stripe = stripes[(key.hashCode() & Integer.MAX_VALUE) % stripes.length];
+        long now = System.nanoTime();
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, refillPerSecond, now);
+                stripe.buckets.put(key, bucket);
+            }
+            bucket.refill(now);
+            if (bucket.tokens < 1) {
+                return false;
+            }
+            bucket.tokens -= 1;
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 보관 중인 Bucket 수
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // 접근 순서 LinkedHashMap, 최대 개수를 넘으면 가장 오래 사용하지 않은 Bucket을 O(1)로 제거
+        // (오래 사용하지 않은 Bucket은 대부분 다시 가득 차 있으므로 새로 만든 것과 같음)
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxBuckets) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxBuckets;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+
+        private final int capacity;
+
+        private final double refillPerSecond;
+
+        private double tokens;
+
+        private long refilledAt;
+
+        private Bucket(int capacity, double refillPerSecond, long now) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        private void refill(long now) {
+            double refill = (now - refilledAt) / 1_000_000_000.0 * refillPerSecond;
+            tokens = Math.min(capacity, tokens + refill);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.project.security.repository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 파일에 매핑된(memory-mapped) Refresh Token 저장소 (token.store: mapped)
+ * Redis 없이 단일 서버로 실행하는 경우 사용, 재시작 후에도 파일에 저장된 Refresh Token 유지
+ * 파일 구조: header(64byte) + slot(64byte) * capacity
+ * slot: memberId(8) + 만료 시각 ms(8, 0: 빈 slot, -1: 삭제됨) + Token 길이(1) + Token(최대 47byte, ASCII)
+ * slot은 stripe 수만큼의 구간으로 나누고, 구간마다 별도 잠금과 선형 탐색(open addressing) 해시 테이블로 사용
+ * 만료된 slot은 백그라운드에서 정리하며, Heap 객체를 만들지 않으므로 저장 건수와 관계없이 GC 부담이 없음
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "token.store", havingValue = "mapped")
+public class MappedRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int MAGIC = 0x52544B53; // "RTKS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 64;
+
+    private static final int MEMBER_ID_OFFSET = 0;
+    private static final int EXPIRES_AT_OFFSET = 8;
+    private static final int LENGTH_OFFSET = 16;
+    private static final int TOKEN_OFFSET = 17;
+    private static final int MAX_TOKEN_LENGTH = SLOT_SIZE - TOKEN_OFFSET;
+
+    // 만료 시각 값으로 slot 상태 표시
+    private static final long EMPTY = 0;
+    private static final long DELETED = -1;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final Segment[] segments;
+
+    public MappedRefreshTokenStore(@Value("${token.mapped.path:data/refresh-tokens.dat}") String path,
+                                   @Value("${token.mapped.capacity:1048576}") int capacity,
+                                   @Value("${token.mapped.stripes:64}") int stripes,
+                                   MeterRegistry meterRegistry) throws IOException {
+        int stripeCount = Math.max(1, stripes);
+        int slotsPerSegment = Math.max(1, capacity / stripeCount);
+        int slots = slotsPerSegment * stripeCount;
+        if ((long) HEADER_SIZE + (long) slots * SLOT_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalStateException("token.mapped.capacity가 너무 큽니다: " + capacity);
+        }
+        int size = HEADER_SIZE + slots * SLOT_SIZE;
+
+        Path file = Paths.get(path).toAbsolutePath();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        boolean exists = Files.exists(file) && Files.size(file) > 0;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (exists) {
+            // 배치(stripe, slot 수)가 다르면 기존 Token을 찾을 수 없으므로 시작하지 않음
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION
+                    || buffer.getInt(8) != slots || buffer.getInt(12) != SLOT_SIZE || buffer.getInt(16) != stripeCount) {
+                throw new IllegalStateException("Refresh Token 파일 형식 또는 capacity, stripes 설정이 다릅니다: " + file);
+            }
+        } else {
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.putInt(8, slots);
+            buffer.putInt(12, SLOT_SIZE);
+            buffer.putInt(16, stripeCount);
+            buffer.putInt(0, MAGIC);
+        }
+
+        this.segments = new Segment[stripeCount];
+        long now = System.currentTimeMillis();
+        long entries = 0;
+        for (int i = 0; i < stripeCount; i++) {
+            segments[i] = new Segment(HEADER_SIZE + i * slotsPerSegment * SLOT_SIZE, slotsPerSegment);
+            segments[i].sweep(now);
+            entries += segments[i].entries;
+        }
+        log.info("Mapped refresh token store opened: path={}, slots={}, entries={}", file, slots, entries);
+
+        Gauge.builder("token.store.mapped.capacity", () -> slots).register(meterRegistry);
+        Gauge.builder("token.store.mapped.entries", this, MappedRefreshTokenStore::entries).register(meterRegistry);
+    }
+
+    @Override
+    public void save(Long memberId, String refreshToken, long ttlSeconds) {
+        checkToken(refreshToken);
+        Segment segment = segment(memberId);
+        long now = System.currentTimeMillis();
+        segment.lock.lock();
+        try {
+            segment.put(memberId, refreshToken, now + ttlSeconds * 1000L, now);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(Map<Long, String> refreshTokens, long ttlSeconds) {
+        refreshTokens.forEach((memberId, refreshToken) -> save(memberId, refreshToken, ttlSeconds));
+    }
+
+    @Override
+    public Result verifyAndExtend(Long memberId, String refreshToken, long extendBelowSeconds, long extendToSeconds) {
+        if (refreshToken == null) {
+            return Result.MISMATCH;
+        }
+        Segment segment = segment(memberId);
+        long now = System.currentTimeMillis();
+        segment.lock.lock();
+        try {
+            int offset = segment.find(memberId, now);
+            if (offset < 0) {
+                return Result.NOT_FOUND;
+            }
+            if (!tokenEquals(offset, refreshToken)) {
+                return Result.MISMATCH;
+            }
+            if (buffer.getLong(offset + EXPIRES_AT_OFFSET) - now < extendBelowSeconds * 1000L) {
+                buffer.putLong(offset + EXPIRES_AT_OFFSET, now + extendToSeconds * 1000L);
+            }
+            return Result.VALID;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(Long memberId) {
+        Segment segment = segment(memberId);
+        segment.lock.lock();
+        try {
+            segment.remove(memberId, System.currentTimeMillis());
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> memberIds) {
+        memberIds.forEach(this::delete);
+    }
+
+    // 만료된 slot 정리, 구간 단위로 잠금을 잡으므로 요청 처리는 짧게만 대기
+    // 변경된 내용을 파일에 기록하여 비정상 종료 시 유실 범위를 정리 주기로 제한
+    @Scheduled(fixedDelayString = "${token.mapped.sweep-interval-millis:10000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.sweep(now);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        buffer.force();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private long entries() {
+        long entries = 0;
+        for (Segment segment : segments) {
+            entries += segment.entries;
+        }
+        return entries;
+    }
+
+    private Segment segment(long memberId) {
+        return segments[(int) ((mix(memberId) >>> 32) & Integer.MAX_VALUE) % segments.length];
+    }
+
+    private static long mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    private static void checkToken(String refreshToken) {
+        if (refreshToken.length() > MAX_TOKEN_LENGTH) {
+            throw new IllegalArgumentException("Refresh Token은 최대 " + MAX_TOKEN_LENGTH + "자까지 저장할 수 있습니다.");
+        }
+        for (int i = 0; i < refreshToken.length(); i++) {
+            if (refreshToken.charAt(i) > 0x7F) {
+                throw new IllegalArgumentException("Refresh Token은 ASCII 문자만 저장할 수 있습니다.");
+            }
+        }
+    }
+
+    // 문자열을 만들지 않고 slot의 Token과 비교
+    private boolean tokenEquals(int offset, String refreshToken) {
+        int length = buffer.get(offset + LENGTH_OFFSET);
+        if (length != refreshToken.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + TOKEN_OFFSET + i) != (byte) refreshToken.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // slot 구간, 잠금을 잡은 상태에서만 호출
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final int base;
+
+        private final int slots;
+
+        // 만료되지 않은 것으로 기록된 slot 수 (정리 전까지 만료된 slot 포함)
+        private volatile long entries;
+
+        private Segment(int base, int slots) {
+            this.base = base;
+            this.slots = slots;
+        }
+
+        private int offset(int slot) {
+            return base + slot * SLOT_SIZE;
+        }
+
+        private int home(long memberId) {
+            return (int) (mix(memberId) & Integer.MAX_VALUE) % slots;
+        }
+
+        // 만료되지 않은 memberId slot의 위치, 없으면 -1 (만료된 slot은 삭제 처리)
+        private int find(long memberId, long now) {
+            int slot = home(memberId);
+            for (int probe = 0; probe < slots; probe++) {
+                int offset = offset(slot);
+                long expiresAt = buffer.getLong(offset + EXPIRES_AT_OFFSET);
+                if (expiresAt == EMPTY) {
+                    return -1;
+                }
+                if (expiresAt != DELETED && buffer.getLong(offset + MEMBER_ID_OFFSET) == memberId) {
+                    if (expiresAt <= now) {
+                        markDeleted(offset);
+                        return -1;
+                    }
+                    return offset;
+                }
+                slot = slot + 1 == slots ? 0 : slot + 1;
+            }
+            return -1;
+        }
+
+        private void put(long memberId, String refreshToken, long expiresAt, long now) {
+            int reusable = -1;
+            int slot = home(memberId);
+            int target = -1;
+            for (int probe = 0; probe < slots; probe++) {
+                int offset = offset(slot);
+                long state = buffer.getLong(offset + EXPIRES_AT_OFFSET);
+                if (state == EMPTY) {
+                    target = reusable >= 0 ? reusable : offset;
+                    break;
+                }
+                if (state != DELETED && buffer.getLong(offset + MEMBER_ID_OFFSET) == memberId) {
+                    target = offset; // 기존 값 덮어쓰기
+                    entries--;
+                    break;
+                }
+                if (reusable < 0 && (state == DELETED || state <= now)) {
+                    reusable = offset; // 삭제되었거나 만료된 slot 재사용 (같은 memberId가 뒤에 없는지 끝까지 확인)
+                }
+                slot = slot + 1 == slots ? 0 : slot + 1;
+            }
+            if (target < 0) {
+                target = reusable;
+            }
+            if (target < 0) {
+                throw new IllegalStateException("Refresh Token 저장소가 가득 찼습니다. token.mapped.capacity를 늘리세요.");
+            }
+            long previous = buffer.getLong(target + EXPIRES_AT_OFFSET);
+            if (previous != EMPTY && previous != DELETED && previous <= now && buffer.getLong(target + MEMBER_ID_OFFSET) != memberId) {
+                entries--; // 다른 사용자의 만료된 slot 재사용
+            }
+            buffer.putLong(target + MEMBER_ID_OFFSET, memberId);
+            buffer.put(target + LENGTH_OFFSET, (byte) refreshToken.length());
+            for (int i = 0; i < refreshToken.length(); i++) {
+                buffer.put(target + TOKEN_OFFSET + i, (byte) refreshToken.charAt(i));
+            }
+            buffer.putLong(target + EXPIRES_AT_OFFSET, expiresAt); // 상태는 마지막에 기록
+            entries++;
+        }
+
+        private void remove(long memberId, long now) {
+            int offset = find(memberId, now);
+            if (offset >= 0) {
+                markDeleted(offset);
+            }
+        }
+
+        private void markDeleted(int offset) {
+            buffer.putLong(offset + EXPIRES_AT_OFFSET, DELETED);
+            entries--;
+        }
+
+        // 만료된 slot을 삭제 처리하고, 뒤에 빈 slot이 있는 삭제 slot은 빈 slot으로 되돌림
+        // (뒤 slot이 비어 있으면 이 slot을 지나 탐색하는 항목이 없으므로 탐색 거리가 계속 늘어나지 않음)
+        private void sweep(long now) {
+            long live = 0;
+            int empty = -1;
+            for (int slot = 0; slot < slots; slot++) {
+                int offset = offset(slot);
+                long state = buffer.getLong(offset + EXPIRES_AT_OFFSET);
+                if (state == EMPTY) {
+                    empty = slot;
+                } else if (state != DELETED) {
+                    if (state <= now) {
+                        buffer.putLong(offset + EXPIRES_AT_OFFSET, DELETED);
+                    } else {
+                        live++;
+                    }
+                }
+            }
+            entries = live;
+            if (empty < 0) {
+                return;
+            }
+            // 빈 slot에서 시작하여 거꾸로 한 바퀴 확인
+            int next = empty;
+            for (int k = 1; k < slots; k++) {
+                int slot = next == 0 ? slots - 1 : next - 1;
+                int offset = offset(slot);
+                if (buffer.getLong(offset + EXPIRES_AT_OFFSET) == DELETED
+                        && buffer.getLong(offset(next) + EXPIRES_AT_OFFSET) == EMPTY) {
+                    buffer.putLong(offset + EXPIRES_AT_OFFSET, EMPTY);
+                }
+                next = slot;
+            }
+        }
+    }
+}
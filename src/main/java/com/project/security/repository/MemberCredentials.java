@@ -0,0 +1,17 @@
+package com.project.security.repository;
+
+import com.project.security.entity.Authority;
+
+import java.util.List;
+
+// 인증에 필요한 사용자 정보만 조회하는 Projection (닉네임, Refresh Token 등은 조회하지 않음)
+public interface MemberCredentials {
+
+    Long getId();
+
+    String getEmail();
+
+    String getPassword();
+
+    List<Authority> getRoles();
+}
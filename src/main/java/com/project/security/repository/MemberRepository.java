@@ -2,11 +2,37 @@ package com.project.security.repository;
 
 import com.project.security.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Transactional
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    // 조회 메서드는 읽기 전용 트랜잭션, Replica 라우팅 사용 시 Replica에서 조회
+    @Transactional(readOnly = true)
     Optional<Member> findByEmail(String email);
+
+    // 인증용 조회, 필요한 컬럼만 조회하고 Member 엔티티를 생성하지 않음
+    @Transactional(readOnly = true)
+    Optional<MemberCredentials> findCredentialsByEmail(String email);
+
+    // 사용자 정보 버전만 조회 (조건부 요청 확인용), Member 엔티티를 생성하지 않음
+    @Transactional(readOnly = true)
+    @Query("select m.version from Member m where m.email = :email")
+    Optional<Long> findVersionByEmail(@Param("email") String email);
+
+    // 주어진 이메일 중 이미 가입된 이메일 조회 (일괄 등록 시 중복 확인)
+    // 직전 chunk의 등록 결과가 반영되어 있어야 하므로 Primary에서 조회
+    @Query("select m.email from Member m where m.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // 비밀번호 재암호화 결과 저장, 조회 이후 비밀번호가 변경되지 않은 경우에만 갱신 (변경된 행 수 반환)
+    @Modifying
+    @Query("update Member m set m.password = :newPassword, m.version = m.version + 1 where m.id = :id and m.password = :oldPassword")
+    int updatePassword(@Param("id") Long id, @Param("oldPassword") String oldPassword, @Param("newPassword") String newPassword);
 }
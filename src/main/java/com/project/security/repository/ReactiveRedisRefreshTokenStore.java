@@ -0,0 +1,66 @@
+package com.project.security.repository;
+
+import com.project.security.metrics.AuthMetrics;
+import com.project.security.metrics.AuthOutcome;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Redis Refresh Token 저장소 (WebFlux 실행 시 사용)
+ * RedisRefreshTokenStore와 같은 키(refreshToken:memberId)와 Lua script를 사용하므로
+ * Servlet, WebFlux 서버가 함께 실행되어도 같은 Refresh Token을 사용
+ * 응답을 기다리는 동안 스레드를 점유하지 않음 (Lettuce 비동기 연결)
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(name = "token.store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ReactiveRedisRefreshTokenStore implements ReactiveRefreshTokenStore {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final AuthMetrics authMetrics;
+
+    @Override
+    public Mono<Void> save(Long memberId, String refreshToken, long ttlSeconds) {
+        return timed("save", redisTemplate.opsForValue()
+                .set(RedisRefreshTokenStore.key(memberId), refreshToken, Duration.ofSeconds(ttlSeconds)))
+                .then();
+    }
+
+    @Override
+    public Mono<RefreshTokenStore.Result> verifyAndExtend(Long memberId, String refreshToken, long extendBelowSeconds, long extendToSeconds) {
+        if (refreshToken == null) {
+            return Mono.just(RefreshTokenStore.Result.MISMATCH);
+        }
+        List<String> keys = Collections.singletonList(RedisRefreshTokenStore.key(memberId));
+        List<String> args = List.of(refreshToken, String.valueOf(extendBelowSeconds), String.valueOf(extendToSeconds));
+        return timed("verify_and_extend", redisTemplate.execute(RedisRefreshTokenStore.VERIFY_AND_EXTEND, keys, args).next())
+                .map(result -> result < 0 ? RefreshTokenStore.Result.NOT_FOUND
+                        : result == 1 ? RefreshTokenStore.Result.VALID : RefreshTokenStore.Result.MISMATCH)
+                .defaultIfEmpty(RefreshTokenStore.Result.NOT_FOUND);
+    }
+
+    @Override
+    public Mono<Void> delete(Long memberId) {
+        return timed("delete", redisTemplate.delete(RedisRefreshTokenStore.key(memberId))).then();
+    }
+
+    // Redis 요청 시간 기록, 구독 시점부터 완료(또는 실패)까지 측정
+    private <T> Mono<T> timed(String operation, Mono<T> command) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = authMetrics.start();
+            return command
+                    .doOnSuccess(result -> authMetrics.stop(sample, AuthMetrics.REDIS, operation, AuthOutcome.SUCCESS))
+                    .doOnError(e -> authMetrics.stop(sample, AuthMetrics.REDIS, operation, AuthOutcome.ERROR));
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.security.repository;
+
+import reactor.core.publisher.Mono;
+
+// 비동기(WebFlux) Refresh Token 저장소, RefreshTokenStore와 같은 키와 만료 규칙 사용
+public interface ReactiveRefreshTokenStore {
+
+    // Refresh Token 저장 (기존 값은 덮어씀)
+    Mono<Void> save(Long memberId, String refreshToken, long ttlSeconds);
+
+    // 저장된 Refresh Token과 비교하고, 일치하며 남은 유효기간이 extendBelowSeconds 미만이면 extendToSeconds로 연장
+    Mono<RefreshTokenStore.Result> verifyAndExtend(Long memberId, String refreshToken, long extendBelowSeconds, long extendToSeconds);
+
+    Mono<Void> delete(Long memberId);
+
+    // 메모리(파일 매핑 포함) 저장소처럼 네트워크 대기가 없는 RefreshTokenStore를 그대로 감싸서 사용
+    // 호출한 스레드(event loop)에서 실행되므로 Redis 등 blocking 저장소에는 사용하지 않음
+    static ReactiveRefreshTokenStore of(RefreshTokenStore store) {
+        return new ReactiveRefreshTokenStore() {
+            @Override
+            public Mono<Void> save(Long memberId, String refreshToken, long ttlSeconds) {
+                return Mono.fromRunnable(() -> store.save(memberId, refreshToken, ttlSeconds));
+            }
+
+            @Override
+            public Mono<RefreshTokenStore.Result> verifyAndExtend(Long memberId, String refreshToken, long extendBelowSeconds, long extendToSeconds) {
+                return Mono.fromSupplier(() -> store.verifyAndExtend(memberId, refreshToken, extendBelowSeconds, extendToSeconds));
+            }
+
+            @Override
+            public Mono<Void> delete(Long memberId) {
+                return Mono.fromRunnable(() -> store.delete(memberId));
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.security.repository;
+
+import com.project.security.metrics.AuthMetrics;
+import com.project.security.metrics.AuthOutcome;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Redis Refresh Token 저장소
+ * Redis 내부에는
+ * refreshToken:memberId : tokenValue
+ * 형태의 단일 문자열 키로 저장하며, 만료시간은 Redis TTL을 사용
+ * (@RedisHash와 달리 Hash, 인덱스 Set, 만료 이벤트용 phantom 키를 만들지 않음)
+ * 기본 저장소 (token.store: redis)
+ */
+@Repository
+@ConditionalOnProperty(name = "token.store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refreshToken:";
+
+    // 값 비교와 유효기간 연장을 한 번의 요청으로 원자적으로 수행 (ReactiveRedisRefreshTokenStore와 공유)
+    // 반환값: 1 일치, 0 불일치, -1 존재하지 않음
+    static final RedisScript<Long> VERIFY_AND_EXTEND = new DefaultRedisScript<>(
+            "local value = redis.call('GET', KEYS[1]) " +
+            "if not value then return -1 end " +
+            "if value ~= ARGV[1] then return 0 end " +
+            "local ttl = redis.call('TTL', KEYS[1]) " +
+            "if ttl >= 0 and ttl < tonumber(ARGV[2]) then redis.call('EXPIRE', KEYS[1], ARGV[3]) end " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AuthMetrics authMetrics;
+
+    @Override
+    public void save(Long memberId, String refreshToken, long ttlSeconds) {
+        timed("save", () -> {
+            redisTemplate.opsForValue().set(key(memberId), refreshToken, Duration.ofSeconds(ttlSeconds));
+            return null;
+        });
+    }
+
+    // 파이프라인으로 전송하여 저장 건수와 관계없이 한 번의 왕복으로 처리
+    @Override
+    public void saveAll(Map<Long, String> refreshTokens, long ttlSeconds) {
+        if (refreshTokens.isEmpty()) {
+            return;
+        }
+        timed("save_all", () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            refreshTokens.forEach((memberId, refreshToken) ->
+                    stringConnection.setEx(key(memberId), ttlSeconds, refreshToken));
+            return null;
+        }));
+    }
+
+    @Override
+    public Result verifyAndExtend(Long memberId, String refreshToken, long extendBelowSeconds, long extendToSeconds) {
+        if (refreshToken == null) {
+            return Result.MISMATCH;
+        }
+        Long result = timed("verify_and_extend", () -> redisTemplate.execute(VERIFY_AND_EXTEND, Collections.singletonList(key(memberId)),
+                refreshToken, String.valueOf(extendBelowSeconds), String.valueOf(extendToSeconds)));
+        if (result == null || result < 0) {
+            return Result.NOT_FOUND;
+        }
+        return result == 1 ? Result.VALID : Result.MISMATCH;
+    }
+
+    @Override
+    public void delete(Long memberId) {
+        timed("delete", () -> redisTemplate.delete(key(memberId)));
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        timed("delete_all", () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            memberIds.forEach(memberId -> stringConnection.del(key(memberId)));
+            return null;
+        }));
+    }
+
+    // Redis 요청 시간 기록
+    private <T> T timed(String operation, Supplier<T> command) {
+        Timer.Sample sample = authMetrics.start();
+        try {
+            T result = command.get();
+            authMetrics.stop(sample, AuthMetrics.REDIS, operation, AuthOutcome.SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            authMetrics.stop(sample, AuthMetrics.REDIS, operation, AuthOutcome.ERROR);
+            throw e;
+        }
+    }
+
+    static String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
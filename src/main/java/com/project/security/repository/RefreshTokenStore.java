@@ -0,0 +1,27 @@
+package com.project.security.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+// Refresh Token 저장소, 사용자 ID(memberId)당 하나의 Refresh Token을 만료시간과 함께 저장
+public interface RefreshTokenStore {
+
+    // Refresh Token 저장 (기존 값은 덮어씀)
+    void save(Long memberId, String refreshToken, long ttlSeconds);
+
+    // 여러 사용자의 Refresh Token을 한 번에 저장
+    void saveAll(Map<Long, String> refreshTokens, long ttlSeconds);
+
+    // 저장된 Refresh Token과 비교하고, 일치하며 남은 유효기간이 extendBelowSeconds 미만이면 extendToSeconds로 연장
+    Result verifyAndExtend(Long memberId, String refreshToken, long extendBelowSeconds, long extendToSeconds);
+
+    void delete(Long memberId);
+
+    void deleteAll(Collection<Long> memberIds);
+
+    enum Result {
+        VALID, // 일치
+        MISMATCH, // 저장된 값과 불일치
+        NOT_FOUND // 만료 또는 존재하지 않음
+    }
+}
@@ -1,7 +0,0 @@
-package com.project.security.repository;
-
-import com.project.security.entity.Token;
-import org.springframework.data.repository.CrudRepository;
-
-public interface TokenRepository extends CrudRepository<Token, Long> {
-}
@@ -0,0 +1,238 @@
+package com.project.security.revocation;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Access Token 폐기(로그아웃, 비밀번호 변경, 계정 정지) 관리
+ * Redis 내부에는
+ * revokedToken:jti : 1 (Token 단위 폐기)
+ * revokedSubject:email : 폐기 시각(초) (사용자 단위 폐기, 이전에 발급된 모든 Token)
+ * 형태로 Token의 남은 유효기간만큼 저장하고, revokedTokens Stream에 폐기 이력을 추가
+ * 각 서버는 Stream을 주기적으로 읽어 로컬 Bloom Filter를 갱신하며, Bloom Filter에 포함된 경우에만 Redis 조회
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final String TOKEN_KEY_PREFIX = "revokedToken:";
+    private static final String SUBJECT_KEY_PREFIX = "revokedSubject:";
+    private static final String STREAM_KEY = "revokedTokens";
+
+    // 한 번에 읽는 Stream 항목 수, 가득 찬 경우 밀린 항목이 없을 때까지 이어서 읽음
+    private static final int READ_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final boolean enabled;
+
+    private final int expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private final long rotationMillis;
+
+    private final long streamMaxLength;
+
+    // 현재 세대, 이전 세대 Bloom Filter (rotation 주기마다 교체하여 만료된 항목 정리)
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long rotatedAt = System.currentTimeMillis();
+
+    // 마지막으로 반영한 Stream 항목 ID
+    // 시작 시에는 rotation 주기 이전부터 읽음 (그보다 오래된 항목은 Bloom Filter 교체로 이미 제거되었을 항목이므로 Stream 전체를 다시 읽지 않음)
+    private volatile String lastStreamId;
+
+    private final AtomicLong syncLagMillis = new AtomicLong();
+    private final AtomicLong bloomHits = new AtomicLong();
+    private final AtomicLong confirmedHits = new AtomicLong();
+
+    private final Counter revokedCounter;
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jwt.revocation.enabled:true}") boolean enabled,
+                                  @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                                  @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                  @Value("${jwt.revocation.rotation-seconds:120}") long rotationSeconds,
+                                  @Value("${jwt.revocation.stream-max-length:100000}") long streamMaxLength) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rotationMillis = rotationSeconds * 1000L;
+        this.streamMaxLength = streamMaxLength;
+        // Stream 항목 ID의 앞부분은 추가된 시각(ms)
+        this.lastStreamId = Math.max(0, System.currentTimeMillis() - rotationMillis) + "-0";
+        this.current = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.previous = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        this.revokedCounter = Counter.builder("jwt.revocation.revoked").register(meterRegistry);
+        Gauge.builder("jwt.revocation.bloom.hits", bloomHits, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("jwt.revocation.bloom.false.positive.rate", this, TokenRevocationService::getFalsePositiveRate).register(meterRegistry);
+        Gauge.builder("jwt.revocation.sync.lag", syncLagMillis, AtomicLong::get).baseUnit("milliseconds").register(meterRegistry);
+    }
+
+    // Token 단위 폐기 (로그아웃)
+    public void revoke(Claims claims) {
+        long ttlMillis = remainingMillis(claims);
+        if (!enabled || claims.getId() == null || ttlMillis <= 0) {
+            return;
+        }
+        redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + claims.getId(), "1", Duration.ofMillis(ttlMillis));
+        publish(tokenEntry(claims.getId()));
+        revokedCounter.increment();
+    }
+
+    // 사용자 단위 폐기 (비밀번호 변경, 계정 정지), 현재 시각 이전에 발급된 해당 사용자의 모든 Token 폐기
+    public void revokeAll(String email, long maxTokenLifetimeMillis) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForValue().set(SUBJECT_KEY_PREFIX + email, String.valueOf(now / 1000),
+                Duration.ofMillis(maxTokenLifetimeMillis));
+        publish(subjectEntry(email));
+        revokedCounter.increment();
+    }
+
+    // Token 폐기 여부 확인, Bloom Filter에 포함된 경우에만 Redis 조회
+    public boolean isRevoked(Claims claims) {
+        if (!enabled) {
+            return false;
+        }
+        String jti = claims.getId();
+        if (jti != null && mightContain(tokenEntry(jti))) {
+            bloomHits.incrementAndGet();
+            if (confirm(() -> Boolean.TRUE.equals(redisTemplate.hasKey(TOKEN_KEY_PREFIX + jti)))) {
+                confirmedHits.incrementAndGet();
+                return true;
+            }
+        }
+        String subject = claims.getSubject();
+        if (subject != null && mightContain(subjectEntry(subject))) {
+            bloomHits.incrementAndGet();
+            if (confirm(() -> {
+                String revokedAt = redisTemplate.opsForValue().get(SUBJECT_KEY_PREFIX + subject);
+                return revokedAt != null && claims.getIssuedAt() != null
+                        && claims.getIssuedAt().getTime() / 1000 <= Long.parseLong(revokedAt);
+            })) {
+                confirmedHits.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 로컬 Bloom Filter만 확인 (Redis 조회 없음), false인 경우 폐기되지 않은 Token
+    // WebFlux 인증 필터에서 Redis 확인이 필요한 경우에만 별도 스레드로 isRevoked() 호출
+    public boolean mightBeRevoked(Claims claims) {
+        if (!enabled) {
+            return false;
+        }
+        return (claims.getId() != null && mightContain(tokenEntry(claims.getId())))
+                || (claims.getSubject() != null && mightContain(subjectEntry(claims.getSubject())));
+    }
+
+    // 다른 서버에서 추가된 폐기 이력을 Stream에서 읽어 로컬 Bloom Filter에 반영
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-millis:500}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        rotateIfNeeded();
+        try {
+            List<MapRecord<String, Object, Object>> records;
+            do {
+                records = readStream(StreamOffset.create(STREAM_KEY, ReadOffset.from(lastStreamId)));
+                if (records == null || records.isEmpty()) {
+                    syncLagMillis.set(0);
+                    return;
+                }
+                for (MapRecord<String, Object, Object> record : records) {
+                    Object entry = record.getValue().get("entry");
+                    if (entry != null) {
+                        current.put(entry.toString());
+                    }
+                }
+                String lastId = records.get(records.size() - 1).getId().getValue();
+                lastStreamId = lastId;
+                // Stream 항목 ID의 앞부분은 Redis 서버에 추가된 시각(ms)
+                syncLagMillis.set(Math.max(0, System.currentTimeMillis() - Long.parseLong(lastId.substring(0, lastId.indexOf('-')))));
+            } while (records.size() >= READ_BATCH_SIZE); // 밀린 항목이 있으면 다음 주기를 기다리지 않고 이어서 읽음
+        } catch (Exception e) {
+            log.warn("Token revocation sync failed: {}", e.getMessage());
+        }
+    }
+
+    // StreamOperations.read는 가변 인자(StreamOffset...)만 받으므로 단일 offset 배열 생성 경고 제외
+    @SuppressWarnings("unchecked")
+    private List<MapRecord<String, Object, Object>> readStream(StreamOffset<String> offset) {
+        return redisTemplate.opsForStream().read(StreamReadOptions.empty().count(READ_BATCH_SIZE), offset);
+    }
+
+    public double getFalsePositiveRate() {
+        long hits = bloomHits.get();
+        return hits == 0 ? 0.0 : (double) (hits - confirmedHits.get()) / hits;
+    }
+
+    private boolean mightContain(String entry) {
+        return current.mightContain(entry) || previous.mightContain(entry);
+    }
+
+    // Bloom Filter에 포함된 Token의 Redis 확인, Redis 장애 시 폐기된 것으로 간주
+    private boolean confirm(BooleanSupplier lookup) {
+        try {
+            return lookup.getAsBoolean();
+        } catch (Exception e) {
+            log.warn("Token revocation lookup failed: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void publish(String entry) {
+        current.put(entry);
+        redisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(Map.of("entry", entry)));
+        redisTemplate.opsForStream().trim(STREAM_KEY, streamMaxLength, true);
+    }
+
+    // 폐기 항목은 최대 Token 유효기간 이후 의미가 없으므로 주기적으로 세대 교체
+    private synchronized void rotateIfNeeded() {
+        long now = System.currentTimeMillis();
+        if (now - rotatedAt >= rotationMillis) {
+            previous = current;
+            current = new BloomFilter(expectedInsertions, falsePositiveRate);
+            rotatedAt = now;
+        }
+    }
+
+    private static long remainingMillis(Claims claims) {
+        return claims.getExpiration() == null ? 0 : claims.getExpiration().getTime() - System.currentTimeMillis();
+    }
+
+    private static String tokenEntry(String jti) {
+        return "jti:" + jti;
+    }
+
+    private static String subjectEntry(String email) {
+        return "sub:" + email;
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.security.service;
+
+import com.project.security.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// WebFlux 실행 시 blocking 호출(JPA, 폐기 여부 Redis 확인) 전용 스레드
+// Netty event loop에서 blocking 호출을 하지 않도록 분리하고, 스레드 수와 대기열을 제한하여 대기열이 가득 차면 즉시 거절
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class BlockingCallScheduler {
+
+    private final Scheduler scheduler;
+
+    private final long retryAfterSeconds;
+
+    // 실행 중 + 대기 중인 작업 수
+    private final AtomicInteger pending = new AtomicInteger();
+
+    // pool-size는 DB 연결 수(Hikari maximum-pool-size 기본값 10)보다 크게 설정해도 연결을 기다리게 되므로 같은 값 사용
+    public BlockingCallScheduler(@Value("${reactive.blocking.pool-size:10}") int poolSize,
+                                 @Value("${reactive.blocking.queue-capacity:1000}") int queueCapacity,
+                                 @Value("${password.hashing.retry-after-seconds:1}") long retryAfterSeconds,
+                                 MeterRegistry meterRegistry) {
+        this.scheduler = Schedulers.newBoundedElastic(poolSize, queueCapacity, "reactive-blocking");
+        this.retryAfterSeconds = retryAfterSeconds;
+        Gauge.builder("reactive.blocking.pool.size", () -> poolSize).register(meterRegistry);
+        Gauge.builder("reactive.blocking.pending", pending, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // blocking 작업을 전용 스레드에서 실행, 대기열이 가득 찬 경우 TooManyRequestsException
+    public <T> Mono<T> call(Callable<T> task) {
+        return Mono.fromCallable(task)
+                .subscribeOn(scheduler)
+                .doOnSubscribe(s -> pending.incrementAndGet())
+                .doFinally(signal -> pending.decrementAndGet())
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.", retryAfterSeconds));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+}
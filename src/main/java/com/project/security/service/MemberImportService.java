@@ -0,0 +1,196 @@
+package com.project.security.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.security.dto.ImportResult;
+import com.project.security.dto.SignRequest;
+import com.project.security.entity.TsidGenerator;
+import com.project.security.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 일괄 등록 (NDJSON, CSV)
+ * 요청 본문을 한 줄씩 읽어 chunk-size 단위로 처리하므로 전체 데이터를 메모리에 올리지 않음
+ * chunk마다 비밀번호를 병렬로 암호화한 뒤 JDBC 배치 INSERT로 저장하며, 잘못된 행은 건너뛰고 결과에 기록
+ * 중복 이메일은 chunk 안에서만 확인하고, 이전 chunk에서 저장된 이메일은 가입 여부 조회(또는 unique 제약)로 걸러짐
+ */
+@Slf4j
+@Service
+public class MemberImportService {
+
+    private static final String INSERT_SQL = "insert into member (id, email, password, nickname, roles, version) values (?, ?, ?, ?, ?, 0)";
+
+    private static final String DEFAULT_ROLES = "ROLE_USER";
+
+    private final MemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+
+    // 일괄 등록 전용 스레드 풀, 로그인용 PasswordHashingExecutor와 대기열을 분리하여 로그인 요청이 일괄 등록 작업 뒤에서 기다리지 않음
+    // 같은 CPU를 사용하므로 일괄 등록 중에는 로그인 처리도 느려질 수 있어 기본값은 CPU 코어 수의 절반으로 제한
+    private final ExecutorService hashingPool;
+
+    public MemberImportService(MemberRepository memberRepository,
+                               PasswordEncoder passwordEncoder,
+                               JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${member.import.chunk-size:1000}") int chunkSize,
+                               @Value("${member.import.hashing-threads:0}") int hashingThreads) {
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashingPool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "member-import-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ImportResult importMembers(InputStream inputStream, boolean csv) throws IOException {
+        ImportResult result = new ImportResult();
+        Set<String> seenEmails = new HashSet<>(); // 현재 chunk 안에서 중복된 이메일 확인 (chunk마다 초기화)
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (csv && lineNumber == 1 && line.toLowerCase().startsWith("email"))) {
+                    continue; // 빈 줄, CSV 헤더 생략
+                }
+                Row row;
+                try {
+                    row = parse(lineNumber, line, csv);
+                } catch (Exception e) {
+                    result.addError(lineNumber, "잘못된 형식입니다.");
+                    continue;
+                }
+                if (row.email == null || row.email.isBlank() || row.password == null || row.password.isEmpty()) {
+                    result.addError(lineNumber, "이메일과 비밀번호는 필수입니다.");
+                    continue;
+                }
+                if (!seenEmails.add(row.email)) {
+                    result.addError(lineNumber, "중복된 이메일입니다.");
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, result);
+                    chunk = new ArrayList<>(chunkSize);
+                    seenEmails.clear();
+                }
+            }
+        }
+        flush(chunk, result);
+        return result;
+    }
+
+    private void flush(List<Row> chunk, ImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 이미 가입된 이메일 제외
+        Set<String> existing = new HashSet<>(memberRepository.findExistingEmails(
+                chunk.stream().map(row -> row.email).collect(Collectors.toList())));
+        List<Row> rows = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existing.contains(row.email)) {
+                result.addError(row.line, "이미 가입된 이메일입니다.");
+            } else {
+                rows.add(row);
+            }
+        }
+
+        // 비밀번호 병렬 암호화
+        CompletableFuture.allOf(rows.stream()
+                .map(row -> CompletableFuture.runAsync(() -> row.encodedPassword = passwordEncoder.encode(row.password), hashingPool))
+                .toArray(CompletableFuture[]::new)).join();
+
+        try {
+            // chunk 단위 트랜잭션, 실패 시 앞서 저장된 행까지 모두 되돌린 뒤 행 단위로 다시 저장
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+                ps.setLong(1, TsidGenerator.nextId());
+                ps.setString(2, row.email);
+                ps.setString(3, row.encodedPassword);
+                ps.setString(4, row.nickname);
+                ps.setString(5, DEFAULT_ROLES);
+            }));
+            result.addImported(rows.size());
+        } catch (Exception e) {
+            // 배치 INSERT 실패 시 (동시 가입 등) 행 단위로 다시 저장하여 실패한 행만 기록
+            log.warn("Member import batch failed, retrying row by row: {}", e.getMessage());
+            for (Row row : rows) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, TsidGenerator.nextId(), row.email, row.encodedPassword, row.nickname, DEFAULT_ROLES);
+                    result.addImported(1);
+                } catch (DuplicateKeyException rowException) {
+                    result.addError(row.line, "이미 가입된 이메일입니다.");
+                } catch (Exception rowException) {
+                    result.addError(row.line, "저장에 실패했습니다.");
+                }
+            }
+        }
+    }
+
+    private Row parse(long line, String value, boolean csv) throws IOException {
+        if (csv) {
+            // email,password,nickname
+            String[] columns = value.split(",", -1);
+            return new Row(line, columns[0].trim(), columns[1], columns.length > 2 ? columns[2].trim() : null);
+        }
+        SignRequest request = objectMapper.readValue(value, SignRequest.class);
+        return new Row(line, request.getEmail(), request.getPassword(), request.getNickname());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdown();
+    }
+
+    private static final class Row {
+
+        private final long line;
+        private final String email;
+        private final String password;
+        private final String nickname;
+        private String encodedPassword;
+
+        private Row(long line, String email, String password, String nickname) {
+            this.line = line;
+            this.email = email;
+            this.password = password;
+            this.nickname = nickname;
+        }
+    }
+}
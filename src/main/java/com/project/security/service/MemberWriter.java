@@ -0,0 +1,32 @@
+package com.project.security.service;
+
+import com.project.security.entity.Authority;
+import com.project.security.entity.Member;
+import com.project.security.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+
+// 회원 저장, 암호화된 비밀번호를 받아 하나의 트랜잭션에서 저장
+// SignService.join이 비밀번호 암호화 스레드가 아닌 별도 스레드에서 호출 (암호화 스레드가 DB 연결을 점유하지 않음)
+@Service
+@RequiredArgsConstructor
+public class MemberWriter {
+
+    private final MemberRepository memberRepository;
+
+    @Transactional
+    public Member create(String email, String encodedPassword, String nickname) {
+        Member member = Member.builder()
+                .email(email)
+                .password(encodedPassword)
+                .nickname(nickname)
+                .build();
+
+        member.setRoles(Collections.singletonList(Authority.builder().name("ROLE_USER").build())); // 사용자 권한(USER) 설정
+
+        return memberRepository.save(member);
+    }
+}
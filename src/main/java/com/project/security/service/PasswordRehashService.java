@@ -0,0 +1,133 @@
+package com.project.security.service;
+
+import com.project.security.cache.MemberCache;
+import com.project.security.entity.Member;
+import com.project.security.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 성공 시 저장된 비밀번호 형식 기록, 현재 설정보다 약한 형식(bcrypt 강도가 낮거나 bcrypt가 아닌 경우)이면 백그라운드에서 다시 암호화
+// 로그인 응답은 재암호화를 기다리지 않으며, 대기열이 가득 찬 경우 건너뛰고 다음 로그인 때 다시 시도
+@Slf4j
+@Component
+public class PasswordRehashService {
+
+    private final MemberRepository memberRepository;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final MemberCache memberCache;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadPoolExecutor executor;
+
+    // 재암호화 대기/진행 중인 사용자 ID, 같은 사용자의 연속 로그인으로 중복 작업이 쌓이지 않도록 사용
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final Counter upgraded;
+
+    private final Counter conflicts;
+
+    private final Counter dropped;
+
+    private final Counter failed;
+
+    public PasswordRehashService(MemberRepository memberRepository,
+                                 PasswordEncoder passwordEncoder,
+                                 MemberCache memberCache,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${password.rehash.queue-capacity:1000}") int queueCapacity) {
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.memberCache = memberCache;
+        this.meterRegistry = meterRegistry;
+        // 로그인 처리(PasswordHashingExecutor)와 CPU를 나눠 쓰지 않도록 스레드 1개, 낮은 우선순위로 실행
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-rehash");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.upgraded = Counter.builder("password.rehash").tag("result", "upgraded").register(meterRegistry);
+        this.conflicts = Counter.builder("password.rehash").tag("result", "conflict").register(meterRegistry);
+        this.dropped = Counter.builder("password.rehash").tag("result", "dropped").register(meterRegistry);
+        this.failed = Counter.builder("password.rehash").tag("result", "failed").register(meterRegistry);
+        // 재암호화 대기 + 진행 중인 작업 수
+        Gauge.builder("password.rehash.backlog", pending, Set::size).register(meterRegistry);
+    }
+
+    // 비밀번호 검증에 성공한 후 호출, 필요한 경우 재암호화 작업 등록
+    public void onLogin(Member member, String rawPassword) {
+        String encodedPassword = member.getPassword();
+        // 로그인한 사용자의 비밀번호 형식 분포 (예: bcrypt-10, bcrypt-12, noop)
+        meterRegistry.counter("password.hash.format", "format", format(encodedPassword)).increment();
+
+        if (!passwordEncoder.upgradeEncoding(encodedPassword) || !pending.add(member.getId())) {
+            return;
+        }
+        try {
+            executor.execute(() -> rehash(member.getId(), member.getEmail(), encodedPassword, rawPassword));
+        } catch (RejectedExecutionException e) {
+            pending.remove(member.getId());
+            dropped.increment();
+        }
+    }
+
+    private void rehash(Long id, String email, String oldPassword, String rawPassword) {
+        try {
+            // 다른 서버가 같은 비밀번호를 이미 갱신했거나 사용자가 비밀번호를 변경한 경우 갱신되지 않음
+            if (memberRepository.updatePassword(id, oldPassword, passwordEncoder.encode(rawPassword)) > 0) {
+                memberCache.invalidate(email);
+                upgraded.increment();
+            } else {
+                conflicts.increment();
+            }
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Password rehash failed: {}", e.getMessage());
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    // 메트릭 태그용 비밀번호 형식, bcrypt는 강도 포함 (비밀번호 값은 포함하지 않음)
+    static String format(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith("{")) {
+            return "unknown";
+        }
+        int end = encodedPassword.indexOf('}');
+        if (end < 0) {
+            return "unknown";
+        }
+        String id = encodedPassword.substring(1, end);
+        // {bcrypt}$2a$10$... 형식에서 강도 추출
+        if ("bcrypt".equals(id) && encodedPassword.length() >= end + 8 && encodedPassword.charAt(end + 4) == '$'
+                && Character.isDigit(encodedPassword.charAt(end + 5)) && Character.isDigit(encodedPassword.charAt(end + 6))) {
+            return "bcrypt-" + encodedPassword.substring(end + 5, end + 7);
+        }
+        return id;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
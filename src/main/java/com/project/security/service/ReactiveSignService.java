@@ -0,0 +1,172 @@
+package com.project.security.service;
+
+import com.project.security.audit.AuditEventType;
+import com.project.security.audit.AuditLogWriter;
+import com.project.security.cache.MemberCache;
+import com.project.security.dto.SignRequest;
+import com.project.security.dto.SignResponse;
+import com.project.security.dto.TokenDto;
+import com.project.security.entity.Member;
+import com.project.security.jwt.JwtProvider;
+import com.project.security.jwt.TokenInspection;
+import com.project.security.repository.ReactiveRefreshTokenStore;
+import com.project.security.repository.RefreshTokenStore;
+import com.project.security.revocation.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * SignService의 WebFlux 버전 (spring.main.web-application-type=reactive)
+ * - 비밀번호 암호화/검증: PasswordHashingExecutor (크기와 대기열이 제한된 스레드 풀, 가득 차면 429)
+ * - 검증 이후 처리(감사 로그, Token 서명): parallel Scheduler (비밀번호 검증 스레드를 점유하지 않음)
+ * - 사용자 조회(JPA), 폐기 등록(Redis): BlockingCallScheduler
+ * - Refresh Token 저장/검증/삭제: ReactiveRefreshTokenStore (스레드를 점유하지 않음)
+ * 사용자 조회 규칙(Replica, read-your-writes)과 Refresh Token 유효기간은 SignService와 같음
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveSignService {
+
+    private final SignService signService;
+    private final ReactiveRefreshTokenStore refreshTokenStore;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtProvider jwtProvider;
+    private final MemberCache memberCache;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordRehashService passwordRehashService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshCoalescer refreshCoalescer;
+    private final BlockingCallScheduler blockingCallScheduler;
+    private final AuditLogWriter auditLog;
+
+    // 회원가입, 비밀번호 암호화와 저장은 PasswordHashingExecutor에서 수행
+    public Mono<Boolean> join(SignRequest request) {
+        return Mono.fromFuture(() -> signService.join(request));
+    }
+
+    // 로그인
+    public Mono<SignResponse> login(SignRequest request) {
+        return findMember(request.getEmail())
+                .doOnError(BadCredentialsException.class, e -> auditLog.record(AuditEventType.LOGIN_FAILED, request.getEmail(), null))
+                .flatMap(member -> Mono.fromFuture(() -> passwordHashingExecutor.submit(() -> passwordEncoder.matches(request.getPassword(), member.getPassword())))
+                        .publishOn(Schedulers.parallel()) // 이후 처리(감사 로그, Token 서명)는 비밀번호 검증 스레드를 점유하지 않도록 전환
+                        .flatMap(matches -> {
+                            // 사용자 비밀번호 유효성 검증
+                            if (!matches) {
+                                auditLog.record(AuditEventType.LOGIN_FAILED, member.getEmail(), member.getId());
+                                return Mono.error(new BadCredentialsException("잘못된 계정정보입니다."));
+                            }
+                            auditLog.record(AuditEventType.LOGIN, member.getEmail(), member.getId());
+
+                            // 이전 형식의 비밀번호는 응답 후 백그라운드에서 다시 암호화
+                            passwordRehashService.onLogin(member, request.getPassword());
+
+                            // Token 서명은 저장 전에 수행 (저장 완료 후에는 Redis 응답 스레드에서 이어지므로)
+                            String refreshToken = UUID.randomUUID().toString();
+                            SignResponse response = SignResponse.builder()
+                                    .id(member.getId())
+                                    .email(member.getEmail())
+                                    .nickname(member.getNickname())
+                                    .roles(member.getRoles())
+                                    .token(TokenDto.builder()
+                                            .accessToken(jwtProvider.createToken(member.getEmail(), member.getRoles()))
+                                            .refreshToken(refreshToken)
+                                            .build())
+                                    .build();
+                            return refreshTokenStore.save(member.getId(), refreshToken, SignService.REFRESH_TOKEN_TTL_SECONDS)
+                                    .thenReturn(response);
+                        }));
+    }
+
+    // 이메일 주소를 통해 사용자 정보 조회, 캐시에 있으면 DB 조회 없이 반환
+    public Mono<SignResponse> findByEmail(String email) {
+        Optional<Member> cached = memberCache.peek(email);
+        if (cached.isPresent()) {
+            return Mono.just(new SignResponse(cached.get()));
+        }
+        return blockingCallScheduler.call(() -> signService.findByEmail(email));
+    }
+
+    // 사용자 정보 버전 조회 (조건부 요청 확인용)
+    public Mono<Optional<Long>> findVersion(String email) {
+        Optional<Member> cached = memberCache.peek(email);
+        if (cached.isPresent()) {
+            return Mono.just(Optional.ofNullable(cached.get().getVersion()));
+        }
+        return blockingCallScheduler.call(() -> signService.findVersion(email));
+    }
+
+    // 로그아웃, Access Token 폐기 및 Refresh Token 삭제
+    public Mono<Void> logout(String accessToken) {
+        Claims claims = jwtProvider.verify(accessToken);
+        if (claims == null) {
+            return Mono.error(new BadCredentialsException("잘못된 계정정보입니다."));
+        }
+        return blockingCallScheduler.call(() -> {
+                    tokenRevocationService.revoke(claims);
+                    return signService.findMember(claims.getSubject());
+                })
+                .flatMap(member -> member.map(m -> refreshTokenStore.delete(m.getId())).orElse(Mono.empty()))
+                // Refresh Token 삭제 이후 최근 재발급 결과 제거 (SignService.logout과 같음)
+                .then(Mono.fromRunnable(() -> refreshCoalescer.evict(claims.getSubject())));
+    }
+
+    // 사용자 단위 폐기 (SignService.revokeAll과 같음)
+    public Mono<Void> revokeAll(String email) {
+        return blockingCallScheduler.call(() -> {
+                    tokenRevocationService.revokeAll(email, jwtProvider.getExpirationMillis());
+                    return signService.findMember(email);
+                })
+                .flatMap(member -> member.map(m -> refreshTokenStore.delete(m.getId())).orElse(Mono.empty()))
+                .then(Mono.fromRunnable(() -> refreshCoalescer.evict(email)));
+    }
+
+    // Access Token 재발급, 같은 사용자와 Refresh Token의 동시 요청은 한 번만 처리 (다른 요청은 스레드 점유 없이 결과 대기)
+    public Mono<TokenDto> refreshAccessToken(TokenDto token) {
+        TokenInspection inspection = jwtProvider.inspect(token.getAccessToken()); // Token 서명 검증 (만료된 Token 허용)
+        if (inspection.getStatus() == TokenInspection.Status.INVALID || token.getRefreshToken() == null) {
+            auditLog.record(AuditEventType.REFRESH_FAILED, inspection.getClaims() == null ? null : inspection.getClaims().getSubject(), null);
+            return Mono.error(new BadCredentialsException("잘못된 계정정보입니다."));
+        }
+        String email = inspection.getClaims().getSubject();
+        return Mono.fromFuture(() -> refreshCoalescer.executeAsync(email + ':' + token.getRefreshToken(),
+                        () -> reissue(email, token.getRefreshToken()).toFuture()))
+                .doOnSuccess(reissued -> auditLog.record(AuditEventType.REFRESH, email, null))
+                .doOnError(e -> auditLog.record(AuditEventType.REFRESH_FAILED, email, null));
+    }
+
+    private Mono<TokenDto> reissue(String email, String refreshToken) {
+        return findMember(email)
+                .flatMap(member -> refreshTokenStore.verifyAndExtend(member.getId(), refreshToken,
+                                SignService.REFRESH_TOKEN_EXTEND_BELOW_SECONDS, SignService.REFRESH_TOKEN_EXTENDED_TTL_SECONDS)
+                        .flatMap(result -> {
+                            if (result == RefreshTokenStore.Result.NOT_FOUND) {
+                                return Mono.error(new Exception("만료된 계정입니다. 로그인을 다시 시도하세요."));
+                            }
+                            if (result != RefreshTokenStore.Result.VALID) {
+                                return Mono.error(new Exception("로그인을 해주세요"));
+                            }
+                            return Mono.fromSupplier(() -> TokenDto.builder()
+                                    .accessToken(jwtProvider.createToken(email, member.getRoles()))
+                                    .refreshToken(refreshToken)
+                                    .build());
+                        }));
+    }
+
+    // 사용자 조회 (SignService와 같은 Replica/Primary 선택), 없으면 BadCredentialsException
+    private Mono<Member> findMember(String email) {
+        return blockingCallScheduler.call(() -> signService.findMember(email))
+                .flatMap(member -> member.map(Mono::just)
+                        .orElseGet(() -> Mono.error(new BadCredentialsException("잘못된 계정정보입니다."))));
+    }
+}
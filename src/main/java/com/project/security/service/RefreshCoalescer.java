@@ -0,0 +1,197 @@
+package com.project.security.service;
+
+import com.project.security.dto.TokenDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 사용자의 동시 Token 재발급 요청 병합 (Single-flight)
+ * Access Token 만료 시 클라이언트가 여러 요청을 동시에 보내면 첫 요청(leader)만 재발급을 수행하고
+ * 나머지 요청(follower)은 leader의 결과를 그대로 사용
+ * 완료된 결과는 짧은 시간 보관하여 직후에 도착한 재시도 요청도 재발급 없이 응답
+ */
+@Component
+public class RefreshCoalescer {
+
+    private final long resultTtlMillis;
+
+    private final int maxResults;
+
+    // 처리 중인 재발급 요청
+    private final Map<String, CompletableFuture<TokenDto>> inflight = new ConcurrentHashMap<>();
+
+    // 최근 완료된 재발급 결과
+    private final Map<String, Result> recent = new ConcurrentHashMap<>();
+
+    private final Counter leader;
+    private final Counter follower;
+    private final Counter cached;
+
+    public RefreshCoalescer(MeterRegistry meterRegistry,
+                            @Value("${jwt.refresh-coalescing.result-ttl-millis:1000}") long resultTtlMillis,
+                            @Value("${jwt.refresh-coalescing.max-results:10000}") int maxResults) {
+        this.resultTtlMillis = resultTtlMillis;
+        this.maxResults = maxResults;
+        this.leader = counter(meterRegistry, "leader");
+        this.follower = counter(meterRegistry, "follower");
+        this.cached = counter(meterRegistry, "cached");
+        Gauge.builder("auth.refresh.inflight", inflight, Map::size).register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("auth.refresh.coalesced").tag("role", role).register(meterRegistry);
+    }
+
+    // key(사용자 + Refresh Token) 기준으로 재발급 수행, 같은 key의 요청이 처리 중이면 그 결과를 기다림
+    public TokenDto execute(String key, Callable<TokenDto> loader) throws Exception {
+        TokenDto recentToken = findRecent(key);
+        if (recentToken != null) {
+            return recentToken;
+        }
+
+        CompletableFuture<TokenDto> future = new CompletableFuture<>();
+        CompletableFuture<TokenDto> existing = inflight.putIfAbsent(key, future);
+        if (existing != null) {
+            follower.increment();
+            return await(existing);
+        }
+
+        leader.increment();
+        try {
+            TokenDto token = loader.call();
+            remember(key, future, token); // inflight에서 제거하기 전에 저장하여 그 사이에 도착한 요청도 결과를 재사용
+            future.complete(token);
+            return token;
+        } catch (Exception e) {
+            future.completeExceptionally(e); // 실패는 보관하지 않으므로 다음 요청은 다시 재발급 시도
+            throw e;
+        } finally {
+            inflight.remove(key, future);
+        }
+    }
+
+    // 비동기 재발급 (WebFlux), 스레드를 점유하지 않고 leader의 결과 Future를 그대로 반환
+    public CompletableFuture<TokenDto> executeAsync(String key, Supplier<CompletableFuture<TokenDto>> loader) {
+        TokenDto recentToken = findRecent(key);
+        if (recentToken != null) {
+            return CompletableFuture.completedFuture(recentToken);
+        }
+
+        CompletableFuture<TokenDto> future = new CompletableFuture<>();
+        CompletableFuture<TokenDto> existing = inflight.putIfAbsent(key, future);
+        if (existing != null) {
+            follower.increment();
+            return existing;
+        }
+
+        leader.increment();
+        CompletableFuture<TokenDto> result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((token, error) -> {
+            // 완료 전에 inflight에서 제거하여 결과를 받은 직후의 요청이 실패한 Future를 다시 받지 않도록 함
+            if (error == null) {
+                remember(key, future, token);
+                inflight.remove(key, future);
+                future.complete(token);
+            } else {
+                inflight.remove(key, future);
+                future.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+        });
+        return future;
+    }
+
+    // 사용자의 처리 중인 요청과 최근 재발급 결과 제거 (로그아웃, 사용자 단위 폐기 시 호출)
+    // 제거 이후에는 폐기 전에 시작된 재발급 결과도 재사용하지 않음
+    public void evict(String email) {
+        String prefix = email + ':';
+        inflight.keySet().removeIf(key -> key.startsWith(prefix));
+        recent.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    // 보관 중인 최근 재발급 결과, 없거나 만료된 경우 null
+    private TokenDto findRecent(String key) {
+        Result result = recent.get(key);
+        if (result != null) {
+            if (result.expiresAt > System.currentTimeMillis()) {
+                cached.increment();
+                return result.token;
+            }
+            recent.remove(key, result);
+        }
+        return null;
+    }
+
+    private static TokenDto await(CompletableFuture<TokenDto> future) throws Exception {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    // 재발급 결과 보관, evict()로 inflight에서 제거된 요청의 결과는 보관하지 않음
+    // (inflight 항목 기준으로 처리하여 evict()와 동시에 실행되어도 폐기 이후 결과가 남지 않음)
+    private void remember(String key, CompletableFuture<TokenDto> future, TokenDto token) {
+        if (resultTtlMillis <= 0 || maxResults <= 0) {
+            return;
+        }
+        inflight.computeIfPresent(key, (k, current) -> {
+            if (current == future) {
+                store(key, token);
+            }
+            return current;
+        });
+    }
+
+    private void store(String key, TokenDto token) {
+        long now = System.currentTimeMillis();
+        if (recent.size() >= maxResults) {
+            Iterator<Result> iterator = recent.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().expiresAt <= now) {
+                    iterator.remove();
+                }
+            }
+            if (recent.size() >= maxResults) {
+                return;
+            }
+        }
+        recent.put(key, new Result(token, now + resultTtlMillis));
+    }
+
+    private static final class Result {
+
+        private final TokenDto token;
+
+        private final long expiresAt;
+
+        private Result(TokenDto token, long expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,83 +1,140 @@
 package com.project.security.service;
 
+import com.project.security.audit.AuditEventType;
+import com.project.security.audit.AuditLogWriter;
+import com.project.security.cache.MemberCache;
+import com.project.security.datasource.DataSourceRouting;
+import com.project.security.datasource.ReadYourWritesTracker;
 import com.project.security.dto.SignRequest;
 import com.project.security.dto.SignResponse;
 import com.project.security.dto.TokenDto;
-import com.project.security.entity.Authority;
 import com.project.security.entity.Member;
 import com.project.security.jwt.JwtProvider;
-import com.project.security.entity.Token;
+import com.project.security.jwt.TokenInspection;
 import com.project.security.repository.MemberRepository;
-import com.project.security.repository.TokenRepository;
+import com.project.security.repository.RefreshTokenStore;
+import com.project.security.revocation.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class SignService {
 
+    // Refresh Token 유효기간(초)
+    static final long REFRESH_TOKEN_TTL_SECONDS = 120;
+    // 남은 유효기간이 이 값(초) 미만이면 연장
+    static final long REFRESH_TOKEN_EXTEND_BELOW_SECONDS = 10;
+    // 연장 시 유효기간(초)
+    static final long REFRESH_TOKEN_EXTENDED_TTL_SECONDS = 1000;
+
     private final MemberRepository memberRepository;
-    private final TokenRepository tokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
-
-    // 회원가입
-    public boolean join(SignRequest request) throws Exception {
-        try {
-            Member member = Member.builder()
-                    .email(request.getEmail())
-                    .password(passwordEncoder.encode(request.getPassword()))
-                    .nickname(request.getNickname())
-                    .build();
-
-            member.setRoles(Collections.singletonList(Authority.builder().name("ROLE_USER").build())); // 사용자 권한(USER) 설정
-
-            memberRepository.save(member);
-        } catch (Exception e) {
-            System.out.println(e.getMessage());
-            throw new Exception("잘못된 요청입니다.");
-        }
-        return true;
+    private final MemberCache memberCache;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordRehashService passwordRehashService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshCoalescer refreshCoalescer;
+    private final ReadYourWritesTracker readYourWrites;
+    private final MemberWriter memberWriter;
+    private final AuditLogWriter auditLog;
+
+    // 암호화/검증 이후 작업(회원 저장, Refresh Token 저장, Token 서명) 실행 스레드 (Spring Boot 기본 작업 스레드 풀)
+    // 크기가 제한된 비밀번호 암호화 스레드가 DB, Redis 응답을 기다리지 않도록 분리
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor ioExecutor;
+
+    // 회원가입, 비밀번호 암호화는 PasswordHashingExecutor에서 비동기로 수행
+    // 저장은 암호화가 끝난 뒤 ioExecutor에서 MemberWriter의 트랜잭션으로 수행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Boolean> join(SignRequest request) {
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(request.getPassword()))
+                .thenApplyAsync(encodedPassword -> {
+                    try {
+                        memberWriter.create(request.getEmail(), encodedPassword, request.getNickname());
+                    } catch (Exception e) {
+                        log.warn("Member join failed: {}", e.getMessage());
+                        throw new IllegalArgumentException("잘못된 요청입니다.");
+                    }
+                    readYourWrites.markWritten(request.getEmail()); // 직후 로그인은 Primary에서 조회
+                    return true;
+                }, ioExecutor);
     }
 
-    // 로그인
-    public SignResponse login(SignRequest request) throws Exception {
+    // 로그인, 비밀번호 검증은 PasswordHashingExecutor에서 비동기로 수행
+    // 검증 이후 감사 로그, Token 서명, Refresh Token 저장(Redis)은 ioExecutor에서 수행
+    // 조회만 수행하므로 트랜잭션 없이 실행, 사용자 조회는 MemberRepository의 읽기 전용 트랜잭션(Replica)에서 수행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<SignResponse> login(SignRequest request) {
         // 사용자 이메일 유효성 검증
-        Member member = memberRepository.findByEmail(request.getEmail()).orElseThrow(() ->
-                new BadCredentialsException("잘못된 계정정보입니다."));
-        // 사용자 비밀번호 유효성 검증
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
-            throw new BadCredentialsException("잘못된 계정정보입니다.");
-        }
-
-        // 로그인 응답 구성
-        return SignResponse.builder()
-                .id(member.getId())
-                .email(member.getEmail())
-                .nickname(member.getNickname())
-                .roles(member.getRoles())
-                .token(TokenDto.builder() // Token 생성
-                        .accessToken(jwtProvider.createToken(member.getEmail(), member.getRoles())) // Access Token 생성
-                        .refreshToken(createRefreshToken(member)) // Refresh Token 생성
-                        .build())
-                .build();
-
+        Member member = findMember(request.getEmail()).orElseThrow(() -> {
+            auditLog.record(AuditEventType.LOGIN_FAILED, request.getEmail(), null);
+            return new BadCredentialsException("잘못된 계정정보입니다.");
+        });
+
+        return passwordHashingExecutor.submit(() -> passwordEncoder.matches(request.getPassword(), member.getPassword()))
+                .thenApplyAsync(matches -> {
+                    // 사용자 비밀번호 유효성 검증
+                    if (!matches) {
+                        auditLog.record(AuditEventType.LOGIN_FAILED, member.getEmail(), member.getId());
+                        throw new BadCredentialsException("잘못된 계정정보입니다.");
+                    }
+                    auditLog.record(AuditEventType.LOGIN, member.getEmail(), member.getId());
+
+                    // 이전 형식의 비밀번호는 응답 후 백그라운드에서 다시 암호화
+                    passwordRehashService.onLogin(member, request.getPassword());
+
+                    // 로그인 응답 구성
+                    return SignResponse.builder()
+                            .id(member.getId())
+                            .email(member.getEmail())
+                            .nickname(member.getNickname())
+                            .roles(member.getRoles())
+                            .token(TokenDto.builder() // Token 생성
+                                    .accessToken(jwtProvider.createToken(member.getEmail(), member.getRoles())) // Access Token 생성
+                                    .refreshToken(createRefreshToken(member)) // Refresh Token 생성
+                                    .build())
+                            .build();
+                }, ioExecutor);
     }
 
     // 이메일 주소를 통해 사용자 정보 조회
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignResponse findByEmail(String email) throws Exception {
-        Member member = memberRepository.findByEmail(email)
+        Member member = memberCache.get(email, () -> findMember(email))
                 .orElseThrow(() -> new Exception("계정을 찾을 수 없습니다."));
         return new SignResponse(member);
     }
 
+    // 사용자 정보 버전 조회 (조건부 요청 확인용), 캐시에 있으면 캐시 값, 없으면 버전 컬럼만 조회
+    // 다른 서버에서 변경된 경우 캐시는 Redis Pub/Sub 무효화로 제거되므로 DB 값을 다시 읽음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<Long> findVersion(String email) {
+        Optional<Member> cached = memberCache.peek(email);
+        if (cached.isPresent()) {
+            return Optional.ofNullable(cached.get().getVersion());
+        }
+        return memberRepository.findVersionByEmail(email);
+    }
+
     /**
      * Refresh Token 생성
      * Redis 내부에는
@@ -86,45 +143,87 @@ public class SignService {
      */
     // Refresh Token 생성
     public String createRefreshToken(Member member) {
-        Token token = tokenRepository.save(
-                Token.builder()
-                        .id(member.getId())
-                        .refreshToken(UUID.randomUUID().toString())
-                        .expiration(120)
-                        .build()
-        );
-        return token.getRefreshToken();
+        String refreshToken = UUID.randomUUID().toString();
+        refreshTokenStore.save(member.getId(), refreshToken, REFRESH_TOKEN_TTL_SECONDS);
+        return refreshToken;
     }
 
-    // Refresh Token 검증
-    public Token validRefreshToken(Member member, String refreshToken) throws Exception {
-        Token token = tokenRepository.findById(member.getId()).orElseThrow(() -> new Exception("만료된 계정입니다. 로그인을 다시 시도하세요."));
-        if (token.getRefreshToken() == null) {
-            return null;
-        } else {
-            if (token.getExpiration() < 10) {
-                token.setExpiration(1000);
-                tokenRepository.save(token);
-            }
-
-            if (!token.getRefreshToken().equals(refreshToken)) {
-                return null;
-            } else {
-                return token;
-            }
+    // Refresh Token 검증, 만료가 임박한 경우 유효기간 연장
+    public boolean validRefreshToken(Member member, String refreshToken) throws Exception {
+        RefreshTokenStore.Result result = refreshTokenStore.verifyAndExtend(member.getId(), refreshToken,
+                REFRESH_TOKEN_EXTEND_BELOW_SECONDS, REFRESH_TOKEN_EXTENDED_TTL_SECONDS);
+        if (result == RefreshTokenStore.Result.NOT_FOUND) {
+            throw new Exception("만료된 계정입니다. 로그인을 다시 시도하세요.");
         }
+        return result == RefreshTokenStore.Result.VALID;
     }
 
+    // 로그아웃, Access Token 폐기 및 Refresh Token 삭제
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String accessToken) {
+        Claims claims = jwtProvider.verify(accessToken);
+        if (claims == null) {
+            throw new BadCredentialsException("잘못된 계정정보입니다.");
+        }
+        tokenRevocationService.revoke(claims);
+        findMember(claims.getSubject())
+                .ifPresent(member -> refreshTokenStore.delete(member.getId()));
+        // Refresh Token 삭제 이후 최근 재발급 결과 제거 (삭제 전에 재발급된 Token을 재사용하지 않도록)
+        refreshCoalescer.evict(claims.getSubject());
+    }
+
+    // 사용자 단위 폐기, 현재 시각 이전에 발급된 모든 Access Token 폐기 및 Refresh Token 삭제
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void revokeAll(String email) {
+        tokenRevocationService.revokeAll(email, jwtProvider.getExpirationMillis());
+        findMember(email).ifPresent(member -> refreshTokenStore.delete(member.getId()));
+        refreshCoalescer.evict(email);
+    }
+
+    // 사용자 조회, 이 서버에서 최근 가입한 사용자(read-your-writes 시간 이내)는 Primary, 나머지는 Replica에서 조회
+    // Replica에서 찾지 못한 경우 다른 서버에서 최근 가입한 사용자(Redis 기록)만 Primary에서 다시 조회
+    // (없는 이메일로 로그인을 반복하는 요청이 Primary 부하로 이어지지 않도록)
+    // 연결은 조회마다 새 트랜잭션에서 결정되므로 호출하는 메서드는 트랜잭션 없이 실행되어야 함 (ReactiveSignService에서도 사용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<Member> findMember(String email) {
+        if (readYourWrites.requiresPrimary(email)) {
+            return DataSourceRouting.onPrimary(() -> memberRepository.findByEmail(email));
+        }
+        Optional<Member> member = memberRepository.findByEmail(email);
+        if (member.isEmpty() && readYourWrites.writtenRecently(email)) {
+            return DataSourceRouting.onPrimary(() -> memberRepository.findByEmail(email));
+        }
+        return member;
+    }
+
+    // Access Token 재발급, 같은 사용자와 Refresh Token의 동시 요청은 한 번만 처리
+    // 병합된 요청을 기다리는 동안 DB 연결을 점유하지 않도록 트랜잭션 없이 실행
+    // 감사 로그는 병합 여부와 관계없이 요청마다 기록
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenDto refreshAccessToken(TokenDto token) throws Exception {
-        String email = jwtProvider.getEmail(token.getAccessToken()); // Token에서 사용자 이메일 주소 추출
-        Member member = memberRepository.findByEmail(email).orElseThrow(() -> // 추출한 이메일 주소를 기반으로 사용자 정보 조회
-                new BadCredentialsException("잘못된 계정정보입니다."));
-        Token refreshToken = validRefreshToken(member, token.getRefreshToken()); // Token 유효성 확인
+        TokenInspection inspection = jwtProvider.inspect(token.getAccessToken()); // Token 서명 검증 (만료된 Token 허용)
+        if (inspection.getStatus() == TokenInspection.Status.INVALID || token.getRefreshToken() == null) {
+            auditLog.record(AuditEventType.REFRESH_FAILED, inspection.getClaims() == null ? null : inspection.getClaims().getSubject(), null);
+            throw new BadCredentialsException("잘못된 계정정보입니다.");
+        }
+        String email = inspection.getClaims().getSubject(); // Token에서 사용자 이메일 주소 추출
+        try {
+            TokenDto reissued = refreshCoalescer.execute(email + ':' + token.getRefreshToken(), () -> reissue(email, token.getRefreshToken()));
+            auditLog.record(AuditEventType.REFRESH, email, null);
+            return reissued;
+        } catch (Exception e) {
+            auditLog.record(AuditEventType.REFRESH_FAILED, email, null);
+            throw e;
+        }
+    }
 
-        if (refreshToken != null) { // 유효한 Refresh Token이 있는 경우, 새로운 Access Token과 유효한 Refresh Token 반환
+    private TokenDto reissue(String email, String refreshToken) throws Exception {
+        Member member = findMember(email).orElseThrow(() -> // 추출한 이메일 주소를 기반으로 사용자 정보 조회
+                new BadCredentialsException("잘못된 계정정보입니다."));
+        if (validRefreshToken(member, refreshToken)) { // 유효한 Refresh Token이 있는 경우, 새로운 Access Token과 유효한 Refresh Token 반환
             return TokenDto.builder()
                     .accessToken(jwtProvider.createToken(email, member.getRoles()))
-                    .refreshToken(refreshToken.getRefreshToken())
+                    .refreshToken(refreshToken)
                     .build();
         } else {
             throw new Exception("로그인을 해주세요");
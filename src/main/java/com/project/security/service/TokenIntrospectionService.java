@@ -0,0 +1,138 @@
+package com.project.security.service;
+
+import com.project.security.dto.IntrospectionResult;
+import com.project.security.exception.TooManyRequestsException;
+import com.project.security.jwt.JwtPrincipal;
+import com.project.security.jwt.JwtProvider;
+import com.project.security.jwt.TokenInspection;
+import com.project.security.metrics.AuthOutcome;
+import com.project.security.revocation.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 내부 Gateway용 Token 일괄 검사
+ * 요청의 Token 목록을 chunk-size 단위로 나누어 전용 스레드 풀에서 병렬로 검사 (JwtProvider.inspect + 폐기 여부)
+ * 스레드 풀 크기와 대기열이 제한되어 있으며, 대기열이 가득 차면 TooManyRequestsException(429)
+ */
+@Service
+public class TokenIntrospectionService {
+
+    private final JwtProvider jwtProvider;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    private final ThreadPoolExecutor executor;
+
+    private final int chunkSize;
+
+    private final int maxBatchSize;
+
+    private final long retryAfterSeconds;
+
+    private final DistributionSummary batchSize;
+
+    public TokenIntrospectionService(JwtProvider jwtProvider,
+                                     TokenRevocationService tokenRevocationService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${introspection.pool-size:0}") int poolSize,
+                                     @Value("${introspection.queue-capacity:1000}") int queueCapacity,
+                                     @Value("${introspection.chunk-size:32}") int chunkSize,
+                                     @Value("${introspection.max-batch-size:1000}") int maxBatchSize,
+                                     @Value("${introspection.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.jwtProvider = jwtProvider;
+        this.tokenRevocationService = tokenRevocationService;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxBatchSize = maxBatchSize;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        // pool-size가 0인 경우 CPU 코어 수만큼 생성 (서명 검증은 CPU 작업)
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "token-introspection-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.batchSize = DistributionSummary.builder("auth.introspection.batch.size").register(meterRegistry);
+        Gauge.builder("auth.introspection.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    // Token 목록 검사, 결과는 요청 순서와 같은 순서
+    public CompletableFuture<List<IntrospectionResult>> introspect(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        batchSize.record(tokens.size());
+
+        IntrospectionResult[] results = new IntrospectionResult[tokens.size()];
+        long nowMillis = System.currentTimeMillis();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>((tokens.size() + chunkSize - 1) / chunkSize);
+        try {
+            for (int from = 0; from < tokens.size(); from += chunkSize) {
+                int start = from;
+                int end = Math.min(from + chunkSize, tokens.size());
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    for (int i = start; i < end; i++) {
+                        results[i] = introspect(tokens.get(i), nowMillis);
+                    }
+                }, executor));
+            }
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.", retryAfterSeconds));
+        }
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture<?>[]::new))
+                .thenApply(done -> Arrays.asList(results));
+    }
+
+    private IntrospectionResult introspect(String token, long nowMillis) {
+        TokenInspection inspection = jwtProvider.inspect(token); // 최근 검증된 Token은 서명 검증 생략
+        if (!inspection.isValid()) {
+            return inactive(inspection.getReason());
+        }
+        Claims claims = inspection.getClaims();
+        if (tokenRevocationService.isRevoked(claims)) {
+            return inactive(AuthOutcome.REVOKED);
+        }
+        Long exp = claims.getExpiration() == null ? null : claims.getExpiration().getTime() / 1000;
+        return IntrospectionResult.builder()
+                .active(true)
+                .status(AuthOutcome.VALID)
+                .sub(claims.getSubject())
+                .roles(JwtPrincipal.getRoles(claims))
+                .jti(claims.getId())
+                .exp(exp)
+                .ttl(exp == null ? null : Math.max(0, exp - nowMillis / 1000))
+                .build();
+    }
+
+    private static IntrospectionResult inactive(String status) {
+        return IntrospectionResult.builder().active(false).status(status).build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
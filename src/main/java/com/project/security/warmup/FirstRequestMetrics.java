@@ -0,0 +1,41 @@
+package com.project.security.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 시작 후 처음 들어온 요청들의 응답 시간 (warmup.first.requests), 예열 효과 확인용
+// actuator 요청(상태 확인)은 제외하며, 정해진 수만큼 기록한 뒤에는 시간을 측정하지 않음
+@Component
+public class FirstRequestMetrics {
+
+    private final int limit;
+
+    private final AtomicInteger started = new AtomicInteger();
+
+    private final Timer timer;
+
+    public FirstRequestMetrics(MeterRegistry meterRegistry,
+                               @Value("${warmup.first-requests:100}") int limit) {
+        this.limit = limit;
+        this.timer = Timer.builder("warmup.first.requests").publishPercentileHistogram().register(meterRegistry);
+    }
+
+    // 기록 대상이면 시작 시각(ns), 아니면 -1
+    long start(String path) {
+        if (started.get() >= limit || path.startsWith("/actuator") || started.incrementAndGet() > limit) {
+            return -1;
+        }
+        return System.nanoTime();
+    }
+
+    void stop(long start) {
+        if (start >= 0) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.security.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+// FirstRequestFilter의 WebFlux 버전, 응답이 완료(또는 취소)된 시점에 기록
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class FirstRequestWebFilter implements WebFilter {
+
+    private final FirstRequestMetrics metrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long start = metrics.start(exchange.getRequest().getPath().value());
+        if (start < 0) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).doFinally(signal -> metrics.stop(start));
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.security.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.security.dto.SignRequest;
+import com.project.security.dto.SignResponse;
+import com.project.security.dto.TokenDto;
+import com.project.security.entity.Authority;
+import com.project.security.jwt.JwtProvider;
+import com.project.security.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 직후 주요 처리 경로 예열 (JIT 컴파일, 연결 풀 생성)
+ * JWT 서명/검증, 비밀번호 검증, MemberRepository 조회, Redis 요청, JSON 변환을 정해진 횟수만큼 실행
+ * ApplicationRunner가 모두 끝난 뒤에 Spring Boot가 ReadinessState.ACCEPTING_TRAFFIC을 발행하므로
+ * 예열이 끝나기 전에는 /actuator/health/readiness가 OUT_OF_SERVICE (트래픽을 받지 않음)
+ * 예열 실패는 기록만 하고 시작을 막지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpRunner implements ApplicationRunner {
+
+    // 존재하지 않는 사용자 (조회만 수행)
+    private static final String WARMUP_EMAIL = "warmup@localhost";
+
+    private static final String WARMUP_KEY = "warmup";
+
+    private final JwtProvider jwtProvider;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final MemberRepository memberRepository;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int iterations;
+
+    private final int passwordIterations;
+
+    private final boolean redisEnabled;
+
+    public WarmUpRunner(JwtProvider jwtProvider,
+                        PasswordEncoder passwordEncoder,
+                        MemberRepository memberRepository,
+                        StringRedisTemplate redisTemplate,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${warmup.iterations:200}") int iterations,
+                        @Value("${warmup.password-iterations:5}") int passwordIterations,
+                        @Value("${warmup.redis.enabled:true}") boolean redisEnabled) {
+        this.jwtProvider = jwtProvider;
+        this.passwordEncoder = passwordEncoder;
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.iterations = iterations;
+        this.passwordIterations = passwordIterations;
+        this.redisEnabled = redisEnabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        List<Authority> roles = Collections.singletonList(Authority.builder().name("ROLE_USER").build());
+
+        step("jwt", () -> {
+            for (int i = 0; i < iterations; i++) {
+                String token = jwtProvider.createToken(WARMUP_EMAIL, roles); // jti가 매번 달라 검증 캐시를 사용하지 않음
+                jwtProvider.validateToken(token);
+            }
+        });
+        step("password", () -> {
+            // bcrypt 강도는 시작 시 측정된 값이므로 매번 수십 ms 이상 소요, 적은 횟수만 실행
+            String encoded = passwordEncoder.encode(WARMUP_KEY);
+            for (int i = 0; i < passwordIterations; i++) {
+                passwordEncoder.matches(WARMUP_KEY, encoded);
+            }
+        });
+        step("member", () -> {
+            for (int i = 0; i < iterations; i++) {
+                memberRepository.findByEmail(WARMUP_EMAIL);
+                memberRepository.findVersionByEmail(WARMUP_EMAIL);
+            }
+        });
+        if (redisEnabled) {
+            step("redis", () -> {
+                for (int i = 0; i < iterations; i++) {
+                    redisTemplate.hasKey(WARMUP_KEY);
+                }
+            });
+        }
+        step("json", () -> {
+            SignResponse response = SignResponse.builder()
+                    .id(0L)
+                    .email(WARMUP_EMAIL)
+                    .nickname(WARMUP_KEY)
+                    .roles(roles)
+                    .token(TokenDto.builder().accessToken(WARMUP_KEY).refreshToken(WARMUP_KEY).build())
+                    .build();
+            for (int i = 0; i < iterations; i++) {
+                objectMapper.writeValueAsBytes(response);
+                objectMapper.readValue("{\"email\":\"" + WARMUP_EMAIL + "\",\"password\":\"" + WARMUP_KEY + "\"}", SignRequest.class);
+                objectMapper.readValue("{\"accessToken\":\"" + WARMUP_KEY + "\",\"refreshToken\":\"" + WARMUP_KEY + "\"}", TokenDto.class);
+            }
+        });
+
+        long elapsed = System.nanoTime() - start;
+        record("total", elapsed);
+        log.info("Warm-up finished in {} ms", TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    // 단계별 소요 시간 기록 (warmup.duration{step}), 실패한 단계는 건너뜀
+    private void step(String name, Step step) {
+        long start = System.nanoTime();
+        try {
+            step.run();
+        } catch (Exception e) {
+            log.warn("Warm-up step {} failed: {}", name, e.getMessage());
+        }
+        long elapsed = System.nanoTime() - start;
+        record(name, elapsed);
+        log.info("Warm-up step {} took {} ms", name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private void record(String step, long nanos) {
+        Timer.builder("warmup.duration").tag("step", step).register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.security.audit;
+
+import com.project.security.entity.AuditLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditLogWriterTest {
+
+    @Test
+    void truncatesEmailsLongerThanColumn() {
+        String longEmail = "a".repeat(300) + "@test.com";
+
+        assertThat(AuditLogWriter.truncate(null)).isNull();
+        assertThat(AuditLogWriter.truncate("user@test.com")).isEqualTo("user@test.com");
+        assertThat(AuditLogWriter.truncate(longEmail)).hasSize(AuditLog.EMAIL_LENGTH);
+        // surrogate pair는 나누지 않음
+        String emoji = "a".repeat(AuditLog.EMAIL_LENGTH - 1) + "😀";
+        assertThat(AuditLogWriter.truncate(emoji)).isEqualTo("a".repeat(AuditLog.EMAIL_LENGTH - 1));
+    }
+
+    @Test
+    void writesTruncatedEmailOnShutdown() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        // 저장 후 배치 목록을 재사용하므로 호출 시점에 복사
+        List<AuditEvent> written = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenAnswer(invocation -> {
+            written.addAll(invocation.<Collection<AuditEvent>>getArgument(1));
+            return new int[0][];
+        });
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, new SimpleMeterRegistry(),
+                true, 16, 100, 60_000, "drop", 5_000);
+
+        writer.record(AuditEventType.LOGIN_FAILED, "a".repeat(1000), null);
+        writer.record(AuditEventType.LOGIN, "user@test.com", 1L);
+        writer.shutdown();
+
+        assertThat(written).extracting(event -> event.getEmail().length())
+                .containsExactly(AuditLog.EMAIL_LENGTH, "user@test.com".length());
+    }
+}
@@ -0,0 +1,103 @@
+package com.project.security.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertThat(new AuditRingBuffer<String>(1).capacity()).isEqualTo(2);
+        assertThat(new AuditRingBuffer<String>(8).capacity()).isEqualTo(8);
+        assertThat(new AuditRingBuffer<String>(9).capacity()).isEqualTo(16);
+    }
+
+    @Test
+    void pollsInInsertionOrderAcrossWrapAround() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(buffer.offer(round * 10 + i)).isTrue();
+            }
+            for (int i = 0; i < 3; i++) {
+                assertThat(buffer.poll()).isEqualTo(round * 10 + i);
+            }
+        }
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void rejectsOfferWhenFull() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll()).isZero();
+        assertThat(buffer.offer(4)).isTrue();
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAndKeepPerProducerOrder() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        AuditRingBuffer<long[]> buffer = new AuditRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                executor.submit(() -> {
+                    start.await();
+                    for (long i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(new long[]{producer, i})) {
+                            Thread.onSpinWait(); // 가득 찬 경우 소비자가 꺼낼 때까지 재시도
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            // 단일 소비자, 생산자별로 추가한 순서대로 꺼내져야 함
+            Map<Long, Long> next = new HashMap<>();
+            List<String> errors = new ArrayList<>();
+            long received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < (long) producers * perProducer && System.nanoTime() < deadline) {
+                long[] element = buffer.poll();
+                if (element == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                long expected = next.getOrDefault(element[0], 0L);
+                if (element[1] != expected) {
+                    errors.add("producer " + element[0] + ": expected " + expected + " but was " + element[1]);
+                }
+                next.put(element[0], element[1] + 1);
+                received++;
+            }
+
+            assertThat(errors).isEmpty();
+            assertThat(received).isEqualTo((long) producers * perProducer);
+            assertThat(buffer.poll()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
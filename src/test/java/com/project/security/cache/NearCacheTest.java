@@ -0,0 +1,91 @@
+package com.project.security.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearCacheTest {
+
+    @Test
+    void loadsOnceAndServesHitsFromCache() {
+        NearCache<String> cache = new NearCache<>(10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get("a", () -> {
+                loads.incrementAndGet();
+                return Optional.of("value");
+            })).contains("value");
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheEmptyResults() {
+        NearCache<String> cache = new NearCache<>(10, 60_000);
+
+        cache.get("a", Optional::empty);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() {
+        NearCache<String> cache = new NearCache<>(10, 0);
+
+        cache.get("a", () -> Optional.of("old"));
+
+        assertThat(cache.peek("a")).isEmpty();
+        assertThat(cache.get("a", () -> Optional.of("new"))).contains("new");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sizeIsBoundedByMaxSize() {
+        NearCache<String> cache = new NearCache<>(3, 60_000);
+
+        for (int i = 0; i < 10; i++) {
+            cache.get("key" + i, () -> Optional.of("value"));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+        assertThat(cache.getEvictionCount()).isEqualTo(7);
+    }
+
+    @Test
+    void invalidationDuringLoadIsNotOverwrittenByStaleValue() {
+        NearCache<String> cache = new NearCache<>(10, 60_000);
+
+        Optional<String> loaded = cache.get("a", () -> {
+            cache.evict("a"); // 조회 중 다른 서버에서 변경되어 무효화됨
+            return Optional.of("stale");
+        });
+
+        assertThat(loaded).contains("stale");
+        assertThat(cache.peek("a")).isEmpty();
+        assertThat(cache.get("a", () -> Optional.of("fresh"))).contains("fresh");
+        assertThat(cache.peek("a")).contains("fresh");
+    }
+
+    @Test
+    void bindsCountersToMeterRegistry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        NearCache<String> cache = new NearCache<>(10, 60_000);
+        cache.bindTo(registry, "member");
+
+        cache.get("a", () -> Optional.of("value"));
+        cache.get("a", () -> Optional.of("value"));
+
+        assertThat(registry.get("cache.gets").tag("cache", "member").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", "member").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.evictions").tag("cache", "member").functionCounter().count()).isZero();
+        assertThat(registry.get("cache.size").tag("cache", "member").gauge().value()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.security.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 한도 1, 동시에 하나의 요청만 처리
+        filter = new ConcurrencyLimitFilter(new AdaptiveConcurrencyLimiter(meterRegistry, true, 1, 1, 1));
+    }
+
+    @Test
+    void shedsRequestsOverLimit() throws Exception {
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        // 첫 요청을 처리하는 동안 같은 partition으로 들어온 요청은 거절
+        filter.doFilter(request("/login"), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(request("/login"), nested, (r, s) -> { }));
+
+        assertThat(nested.getStatus()).isEqualTo(503);
+        assertThat(meterRegistry.get("concurrency.limit.shed").tag("partition", "login").counter().count()).isEqualTo(1);
+        assertThat(inflight("login")).isZero();
+    }
+
+    @Test
+    void partitionsAreIndependent() throws Exception {
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        filter.doFilter(request("/login"), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(request("/user/me"), nested, (r, s) -> { }));
+
+        assertThat(nested.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void releasesPermitWhenChainFails() {
+        FilterChain failing = (req, res) -> {
+            throw new ServletException("failure");
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(request("/login"), new MockHttpServletResponse(), failing))
+                .isInstanceOf(ServletException.class);
+
+        assertThat(inflight("login")).isZero();
+    }
+
+    @Test
+    void asyncRequestHoldsPermitUntilComplete() throws Exception {
+        MockHttpServletRequest request = request("/join");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(inflight("join")).isEqualTo(1);
+        request.getAsyncContext().complete();
+        assertThat(inflight("join")).isZero();
+    }
+
+    private double inflight(String partition) {
+        return meterRegistry.get("concurrency.limit.inflight").tag("partition", partition).gauge().value();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.security.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitWebFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 한도 1, 동시에 하나의 요청만 처리
+        filter = new ConcurrencyLimitWebFilter(new AdaptiveConcurrencyLimiter(meterRegistry, true, 1, 1, 1));
+    }
+
+    @Test
+    void holdsPermitUntilResponseCompletesAndShedsOverLimit() {
+        Sinks.Empty<Void> response = Sinks.empty();
+        filter.filter(exchange("/login"), e -> response.asMono()).subscribe();
+        assertThat(inflight("login")).isEqualTo(1);
+
+        // 첫 요청의 응답이 완료되기 전에 같은 partition으로 들어온 요청은 거절
+        MockServerWebExchange nested = exchange("/login");
+        filter.filter(nested, e -> Mono.empty()).block(Duration.ofSeconds(5));
+        assertThat(nested.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+        response.tryEmitEmpty();
+        assertThat(inflight("login")).isZero();
+    }
+
+    @Test
+    void releasesPermitWhenChainFails() {
+        assertThatThrownBy(() -> filter.filter(exchange("/login"), e -> Mono.error(new IllegalStateException("failure")))
+                .block(Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(inflight("login")).isZero();
+    }
+
+    @Test
+    void releasesPermitWhenCancelled() {
+        filter.filter(exchange("/join"), e -> Mono.never()).subscribe().dispose();
+
+        assertThat(inflight("join")).isZero();
+    }
+
+    private double inflight(String partition) {
+        return meterRegistry.get("concurrency.limit.inflight").tag("partition", partition).gauge().value();
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(path));
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.security.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void growsWhileResponseTimeIsSteady() {
+        GradientLimit limit = new GradientLimit(20, 4, 200);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, limit.getLimit());
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void doesNotGrowWhenMostlyIdle() {
+        GradientLimit limit = new GradientLimit(20, 4, 200);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, 1);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void shrinksWhenResponseTimeIncreases() {
+        GradientLimit limit = new GradientLimit(100, 4, 200);
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(RTT, 100);
+        }
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT * 10, limit.getLimit());
+        }
+
+        assertThat(limit.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    void staysWithinBounds() {
+        GradientLimit growing = new GradientLimit(20, 10, 30);
+        for (int i = 0; i < 1000; i++) {
+            growing.onSample(RTT, growing.getLimit());
+        }
+        assertThat(growing.getLimit()).isEqualTo(30);
+
+        GradientLimit shrinking = new GradientLimit(30, 20, 100);
+        shrinking.onSample(RTT, 30);
+        for (int i = 0; i < 50; i++) {
+            shrinking.onSample(RTT * 100, shrinking.getLimit());
+        }
+        assertThat(shrinking.getLimit()).isEqualTo(20);
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.security.controller;
+
+import com.project.security.dto.SignResponse;
+import com.project.security.jwt.JwtProvider;
+import com.project.security.service.MemberImportService;
+import com.project.security.service.SignService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberETagsTest {
+
+    @Test
+    void formatsVersionAsStrongETag() {
+        assertThat(MemberETags.of(3)).isEqualTo("\"v3\"");
+    }
+
+    @Test
+    void matchesListsWildcardAndWeakValidators() {
+        String etag = MemberETags.of(3);
+
+        assertThat(MemberETags.matches("\"v3\"", etag)).isTrue();
+        assertThat(MemberETags.matches("\"v1\", \"v3\"", etag)).isTrue();
+        assertThat(MemberETags.matches("W/\"v3\"", etag)).isTrue();
+        assertThat(MemberETags.matches("*", etag)).isTrue();
+        assertThat(MemberETags.matches("\"v2\"", etag)).isFalse();
+        assertThat(MemberETags.matches("\"v30\"", etag)).isFalse();
+        assertThat(MemberETags.matches("", etag)).isFalse();
+    }
+
+    @Test
+    void returnsNotModifiedWithoutLoadingMember() throws Exception {
+        SignService signService = mock(SignService.class);
+        when(signService.findVersion("user@test.com")).thenReturn(Optional.of(3L));
+        SignController controller = controller(signService);
+
+        ResponseEntity<SignResponse> response = controller.getUser("user@test.com", "\"v3\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"v3\"");
+        assertThat(response.getHeaders().getCacheControl()).contains("no-cache").contains("private");
+        verify(signService, never()).findByEmail("user@test.com");
+    }
+
+    @Test
+    void returnsBodyWithETagWhenVersionChanged() throws Exception {
+        SignService signService = mock(SignService.class);
+        when(signService.findVersion("user@test.com")).thenReturn(Optional.of(4L));
+        when(signService.findByEmail("user@test.com"))
+                .thenReturn(SignResponse.builder().email("user@test.com").version(4L).build());
+        SignController controller = controller(signService);
+
+        ResponseEntity<SignResponse> response = controller.getUser("user@test.com", "\"v3\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.ETAG)).isEqualTo("\"v4\"");
+        assertThat(response.getBody().getEmail()).isEqualTo("user@test.com");
+    }
+
+    @Test
+    void skipsVersionLookupWithoutIfNoneMatch() throws Exception {
+        SignService signService = mock(SignService.class);
+        when(signService.findByEmail("user@test.com"))
+                .thenReturn(SignResponse.builder().email("user@test.com").version(1L).build());
+
+        ResponseEntity<SignResponse> response = controller(signService).getUser("user@test.com", null);
+
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"v1\"");
+        verify(signService, never()).findVersion("user@test.com");
+    }
+
+    private static SignController controller(SignService signService) {
+        return new SignController(signService, mock(MemberImportService.class), mock(JwtProvider.class));
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.security.jwt;
+
+import com.project.security.entity.Authority;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactClaimsTest {
+
+    private static final Key KEY = Keys.hmacShaKeyFor("compact-claims-test-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void rolesSurviveSignedTokenRoundTrip() {
+        Claims claims = Jwts.claims().setSubject("user@test.com");
+        CompactClaims.putRoles(claims, List.of(role("ROLE_USER"), role("ROLE_ADMIN"), role("ROLE_AUDITOR")));
+
+        Claims parsed = parse(Jwts.builder().setClaims(claims).signWith(KEY, SignatureAlgorithm.HS256).compact());
+
+        assertThat(CompactClaims.isCompact(parsed)).isTrue();
+        assertThat(parsed.get(CompactClaims.ROLE_BITS, Integer.class)).isEqualTo(3);
+        assertThat(CompactClaims.getRoles(parsed)).containsExactly("ROLE_USER", "ROLE_ADMIN", "ROLE_AUDITOR");
+    }
+
+    @Test
+    void omitsRoleNamesWhenAllRolesAreKnown() {
+        Claims claims = Jwts.claims();
+        CompactClaims.putRoles(claims, List.of(role("ROLE_USER")));
+
+        assertThat(claims).doesNotContainKey(CompactClaims.ROLE_NAMES);
+        assertThat(CompactClaims.getRoles(claims)).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void legacyClaimsAreNotCompact() {
+        Claims legacy = Jwts.claims(Map.of("roles", List.of(Map.of("name", "ROLE_USER"))));
+
+        assertThat(CompactClaims.isCompact(legacy)).isFalse();
+    }
+
+    @Test
+    void shortIdIsUnique22CharBase64Url() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            String id = CompactClaims.shortId();
+            assertThat(id).hasSize(22).matches("[A-Za-z0-9_-]+");
+            assertThat(Base64.getUrlDecoder().decode(id)).hasSize(16);
+            ids.add(id);
+        }
+        assertThat(ids).hasSize(1000);
+    }
+
+    private static Claims parse(String token) {
+        return Jwts.parserBuilder().setSigningKey(KEY).build().parseClaimsJws(token).getBody();
+    }
+
+    private static Authority role(String name) {
+        return new Authority(name);
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.security.jwt;
+
+import com.project.security.metrics.AuthOutcome;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenInspectorTest {
+
+    private static final String SECRET = "token-inspector-test-secret-key-0123456789";
+
+    private static final Key HMAC_KEY = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    private final TokenInspector inspector = new TokenInspector(new JwtKeyRing(new JwtKeyProperties(), SECRET));
+
+    @Test
+    void acceptsValidToken() {
+        long now = System.currentTimeMillis();
+        String token = hmacToken(new Date(now + 60_000));
+
+        TokenInspection inspection = inspector.inspect(token, now);
+
+        assertThat(inspection.getStatus()).isEqualTo(TokenInspection.Status.VALID);
+        assertThat(inspection.getClaims().getSubject()).isEqualTo("user@test.com");
+        // header 캐시 사용 시에도 같은 결과
+        assertThat(inspector.inspect(token, now).isValid()).isTrue();
+    }
+
+    @Test
+    void reportsExpiredTokenWithClaims() {
+        long now = System.currentTimeMillis();
+        String token = hmacToken(new Date(now - 1_000));
+
+        TokenInspection inspection = inspector.inspect(token, now);
+
+        assertThat(inspection.getStatus()).isEqualTo(TokenInspection.Status.EXPIRED);
+        assertThat(inspection.getReason()).isEqualTo(AuthOutcome.EXPIRED);
+        assertThat(inspection.getClaims().getSubject()).isEqualTo("user@test.com");
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        long now = System.currentTimeMillis();
+        String valid = hmacToken(new Date(now + 60_000));
+
+        for (String token : new String[]{null, "", "abc", "a.b", "a..c", ".b.c", "a.b.", "a.b.c.d",
+                valid.replace('.', '+'), valid + "=", "x".repeat(9000) + ".b.c",
+                base64("not json") + ".e30.c2ln"}) {
+            TokenInspection inspection = inspector.inspect(token, now);
+            assertThat(inspection.getStatus()).as(String.valueOf(token)).isEqualTo(TokenInspection.Status.INVALID);
+            assertThat(inspection.getReason()).as(String.valueOf(token)).isEqualTo(AuthOutcome.MALFORMED);
+        }
+    }
+
+    @Test
+    void rejectsTamperedSignatureAndPayload() {
+        long now = System.currentTimeMillis();
+        String token = hmacToken(new Date(now + 60_000));
+        int second = token.lastIndexOf('.');
+        String tamperedPayload = token.substring(0, token.indexOf('.') + 1)
+                + base64("{\"sub\":\"admin@test.com\"}") + token.substring(second);
+        char last = token.charAt(token.length() - 2);
+        String tamperedSignature = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        assertThat(inspector.inspect(tamperedPayload, now).getReason()).isEqualTo(AuthOutcome.BAD_SIGNATURE);
+        assertThat(inspector.inspect(tamperedSignature, now).getReason()).isEqualTo(AuthOutcome.BAD_SIGNATURE);
+        // 서명 길이가 다른 경우
+        assertThat(inspector.inspect(token.substring(0, second + 1) + "c2ln", now).getReason()).isEqualTo(AuthOutcome.BAD_SIGNATURE);
+    }
+
+    @Test
+    void rejectsUnknownKid() {
+        long now = System.currentTimeMillis();
+        String token = Jwts.builder().setHeaderParam("kid", "unknown").setSubject("user@test.com")
+                .setExpiration(new Date(now + 60_000)).signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+
+        assertThat(inspector.inspect(token, now).getReason()).isEqualTo(AuthOutcome.UNKNOWN_KEY);
+    }
+
+    @Test
+    void verifiesTokensSignedWithRingKeys() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        KeyPair keyPair = generator.generateKeyPair();
+        JwtKeyProperties.KeyEntry entry = new JwtKeyProperties.KeyEntry();
+        entry.setKid("es-1");
+        entry.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        JwtKeyProperties properties = new JwtKeyProperties();
+        properties.getKeys().add(entry);
+        properties.setAcceptLegacy(false);
+        TokenInspector ringInspector = new TokenInspector(new JwtKeyRing(properties, SECRET));
+        long now = System.currentTimeMillis();
+
+        String token = Jwts.builder().setHeaderParam("kid", "es-1").setSubject("user@test.com")
+                .setExpiration(new Date(now + 60_000)).signWith(keyPair.getPrivate(), SignatureAlgorithm.ES256).compact();
+
+        assertThat(ringInspector.inspect(token, now).isValid()).isTrue();
+        // 기존 HS256 Key를 허용하지 않으면 kid 없는 Token은 거절
+        assertThat(ringInspector.inspect(hmacToken(new Date(now + 60_000)), now).getReason()).isEqualTo(AuthOutcome.UNKNOWN_KEY);
+    }
+
+    private static String hmacToken(Date expiration) {
+        return Jwts.builder().setSubject("user@test.com").setExpiration(expiration)
+                .signWith(HMAC_KEY, SignatureAlgorithm.HS256).compact();
+    }
+
+    private static String base64(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
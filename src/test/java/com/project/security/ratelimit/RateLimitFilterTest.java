@@ -0,0 +1,104 @@
+package com.project.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+
+    private RateLimiter rateLimiter;
+    private RateLimitProperties.PathLimit limit;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(RateLimiter.class);
+        limit = new RateLimitProperties.PathLimit();
+        when(rateLimiter.getLimit("/login")).thenReturn(limit);
+        when(rateLimiter.tryAcquire(anyString(), any(), anyString(), any())).thenReturn(true);
+        filter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+    }
+
+    @Test
+    void extractsEmailAndKeepsBodyReadable() throws Exception {
+        MockHttpServletRequest request = login("{\"email\":\"User@Test.com\",\"password\":\"pw\"}");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        verify(rateLimiter).tryAcquire(eq("/login"), eq(limit), anyString(), eq("user@test.com"));
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertThat(new String(forwarded.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).contains("User@Test.com");
+    }
+
+    @Test
+    void extractsEmailFromBodyWithoutContentLength() throws Exception {
+        // chunked 전송처럼 Content-Length가 없는 요청
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login") {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setServletPath("/login");
+        request.setContent("{\"email\":\"user@test.com\"}".getBytes(StandardCharsets.UTF_8));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire(eq("/login"), eq(limit), anyString(), eq("user@test.com"));
+    }
+
+    @Test
+    void rejectsOversizedBodyBeforeChain() throws Exception {
+        MockHttpServletRequest request = login("{\"email\":\"user@test.com\",\"pad\":\"" + "x".repeat(10_000) + "\"}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+        verify(rateLimiter, never()).tryAcquire(anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    void rejectsWhenLimitExceeded() throws Exception {
+        when(rateLimiter.tryAcquire(anyString(), any(), anyString(), any())).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(login("{\"email\":\"user@test.com\"}"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private static MockHttpServletRequest login(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setServletPath("/login");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
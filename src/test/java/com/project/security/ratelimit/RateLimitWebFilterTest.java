@@ -0,0 +1,118 @@
+package com.project.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.security.service.BlockingCallScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitWebFilterTest {
+
+    private RateLimiter rateLimiter;
+    private RateLimitProperties.PathLimit limit;
+    private BlockingCallScheduler blockingCallScheduler;
+    private RateLimitWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(RateLimiter.class);
+        limit = new RateLimitProperties.PathLimit();
+        when(rateLimiter.getLimit("/login")).thenReturn(limit);
+        when(rateLimiter.tryAcquire(anyString(), any(), anyString(), any())).thenReturn(true);
+        blockingCallScheduler = new BlockingCallScheduler(1, 10, 1, new SimpleMeterRegistry());
+        filter = new RateLimitWebFilter(rateLimiter, new ObjectMapper(), blockingCallScheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockingCallScheduler.shutdown();
+    }
+
+    @Test
+    void extractsEmailAndKeepsBodyReadable() {
+        AtomicReference<String> forwarded = new AtomicReference<>();
+        MockServerWebExchange exchange = login("{\"email\":\"User@Test.com\",\"password\":\"pw\"}");
+
+        filter.filter(exchange, e -> read(e).doOnNext(forwarded::set).then()).block(Duration.ofSeconds(5));
+
+        verify(rateLimiter).tryAcquire(eq("/login"), eq(limit), anyString(), eq("user@test.com"));
+        assertThat(forwarded.get()).contains("User@Test.com");
+    }
+
+    @Test
+    void checksGlobalLimitOnBlockingScheduler() {
+        limit.setGlobalLimit(100);
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(rateLimiter.tryAcquire(anyString(), any(), anyString(), any())).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return true;
+        });
+
+        filter.filter(login("{\"email\":\"user@test.com\"}"), e -> Mono.empty()).block(Duration.ofSeconds(5));
+
+        assertThat(thread.get()).startsWith("reactive-blocking");
+    }
+
+    @Test
+    void rejectsOversizedBodyWithoutContentLength() {
+        // chunked 전송처럼 Content-Length가 없는 요청
+        byte[] chunk = ("{\"email\":\"user@test.com\",\"pad\":\"" + "x".repeat(10_000) + "\"}").getBytes(StandardCharsets.UTF_8);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(chunk))));
+        AtomicReference<Boolean> chained = new AtomicReference<>(false);
+
+        filter.filter(exchange, e -> Mono.fromRunnable(() -> chained.set(true))).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(chained.get()).isFalse();
+        verify(rateLimiter, never()).tryAcquire(anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    void rejectsWhenLimitExceeded() {
+        when(rateLimiter.tryAcquire(anyString(), any(), anyString(), any())).thenReturn(false);
+        MockServerWebExchange exchange = login("{\"email\":\"user@test.com\"}");
+        AtomicReference<Boolean> chained = new AtomicReference<>(false);
+
+        filter.filter(exchange, e -> Mono.fromRunnable(() -> chained.set(true))).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(exchange.getResponse().getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(chained.get()).isFalse();
+    }
+
+    private static Mono<String> read(ServerWebExchange exchange) {
+        return DataBufferUtils.join(exchange.getRequest().getBody())
+                .map(buffer -> buffer.toString(StandardCharsets.UTF_8));
+    }
+
+    private static MockServerWebExchange login(String body) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body));
+    }
+}
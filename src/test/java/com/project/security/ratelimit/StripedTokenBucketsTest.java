@@ -0,0 +1,55 @@
+package com.project.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedTokenBucketsTest {
+
+    @Test
+    void rejectsWhenBucketIsEmpty() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(4, 100);
+
+        assertThat(buckets.tryAcquire("ip:1", 3, 0)).isTrue();
+        assertThat(buckets.tryAcquire("ip:1", 3, 0)).isTrue();
+        assertThat(buckets.tryAcquire("ip:1", 3, 0)).isTrue();
+        assertThat(buckets.tryAcquire("ip:1", 3, 0)).isFalse();
+        // 다른 키는 별도 Bucket 사용
+        assertThat(buckets.tryAcquire("ip:2", 3, 0)).isTrue();
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 100);
+
+        assertThat(buckets.tryAcquire("ip:1", 1, 100)).isTrue();
+        assertThat(buckets.tryAcquire("ip:1", 1, 100)).isFalse();
+        Thread.sleep(50);
+        assertThat(buckets.tryAcquire("ip:1", 1, 100)).isTrue();
+    }
+
+    @Test
+    void sizeIsBoundedPerStripe() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 10);
+
+        for (int i = 0; i < 1000; i++) {
+            buckets.tryAcquire("ip:" + i, 1, 0);
+        }
+
+        assertThat(buckets.size()).isEqualTo(10);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBucket() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 2);
+
+        assertThat(buckets.tryAcquire("a", 1, 0)).isTrue();
+        assertThat(buckets.tryAcquire("b", 1, 0)).isTrue();
+        assertThat(buckets.tryAcquire("a", 1, 0)).isFalse(); // a를 최근 사용으로 갱신
+        assertThat(buckets.tryAcquire("c", 1, 0)).isTrue();  // b 제거
+
+        // a는 남아 있어 계속 제한되고, 제거된 b는 새 Bucket으로 다시 생성됨
+        assertThat(buckets.tryAcquire("a", 1, 0)).isFalse();
+        assertThat(buckets.tryAcquire("b", 1, 0)).isTrue();
+    }
+}
@@ -0,0 +1,145 @@
+package com.project.security.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedRefreshTokenStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<MappedRefreshTokenStore> opened = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (MappedRefreshTokenStore store : opened) {
+            store.close();
+        }
+    }
+
+    @Test
+    void savesVerifiesAndDeletes() throws IOException {
+        MappedRefreshTokenStore store = open(64, 4);
+
+        store.save(1L, "token-1", 60);
+
+        assertThat(store.verifyAndExtend(1L, "token-1", 0, 0)).isEqualTo(RefreshTokenStore.Result.VALID);
+        assertThat(store.verifyAndExtend(1L, "token-2", 0, 0)).isEqualTo(RefreshTokenStore.Result.MISMATCH);
+        assertThat(store.verifyAndExtend(2L, "token-1", 0, 0)).isEqualTo(RefreshTokenStore.Result.NOT_FOUND);
+
+        store.save(1L, "token-2", 60); // 같은 사용자는 덮어쓰기
+        assertThat(store.verifyAndExtend(1L, "token-2", 0, 0)).isEqualTo(RefreshTokenStore.Result.VALID);
+        assertThat(entries()).isEqualTo(1);
+
+        store.delete(1L);
+        assertThat(store.verifyAndExtend(1L, "token-2", 0, 0)).isEqualTo(RefreshTokenStore.Result.NOT_FOUND);
+        assertThat(entries()).isZero();
+    }
+
+    @Test
+    void probesPastCollisionsAndDeletedSlots() throws IOException {
+        // 구간 1개, slot 8개: 모든 사용자가 같은 구간을 선형 탐색으로 공유
+        MappedRefreshTokenStore store = open(8, 1);
+        for (long id = 1; id <= 8; id++) {
+            store.save(id, "token-" + id, 60);
+        }
+        assertThatThrownBy(() -> store.save(9L, "token-9", 60)).isInstanceOf(IllegalStateException.class);
+
+        // 삭제된 slot 뒤에 있는 항목도 계속 찾을 수 있고, 삭제된 slot은 재사용
+        store.delete(3L);
+        for (long id = 1; id <= 8; id++) {
+            assertThat(store.verifyAndExtend(id, "token-" + id, 0, 0))
+                    .isEqualTo(id == 3 ? RefreshTokenStore.Result.NOT_FOUND : RefreshTokenStore.Result.VALID);
+        }
+        store.save(9L, "token-9", 60);
+        assertThat(store.verifyAndExtend(9L, "token-9", 0, 0)).isEqualTo(RefreshTokenStore.Result.VALID);
+        assertThat(entries()).isEqualTo(8);
+    }
+
+    @Test
+    void expiredTokensAreNotReturnedAndSweepReclaimsSlots() throws IOException {
+        MappedRefreshTokenStore store = open(8, 1);
+        for (long id = 1; id <= 8; id++) {
+            store.save(id, "token-" + id, 0); // 저장 즉시 만료
+        }
+
+        assertThat(store.verifyAndExtend(1L, "token-1", 0, 0)).isEqualTo(RefreshTokenStore.Result.NOT_FOUND);
+        store.sweep();
+        assertThat(entries()).isZero();
+
+        for (long id = 11; id <= 18; id++) {
+            store.save(id, "token-" + id, 60);
+        }
+        assertThat(entries()).isEqualTo(8);
+    }
+
+    @Test
+    void extendsTokensCloseToExpiry() throws Exception {
+        MappedRefreshTokenStore store = open(64, 4);
+        store.save(1L, "token-1", 1);
+
+        assertThat(store.verifyAndExtend(1L, "token-1", 10, 1000)).isEqualTo(RefreshTokenStore.Result.VALID);
+
+        // 연장되지 않았다면 1초 후 만료됨
+        Thread.sleep(1_500);
+        assertThat(store.verifyAndExtend(1L, "token-1", 0, 0)).isEqualTo(RefreshTokenStore.Result.VALID);
+    }
+
+    @Test
+    void keepsTokensAcrossReopen() throws IOException {
+        MappedRefreshTokenStore store = open(64, 4);
+        store.save(1L, "token-1", 60);
+        store.save(2L, "token-2", 0);
+        store.close();
+        opened.remove(store);
+
+        MappedRefreshTokenStore reopened = open(64, 4);
+
+        assertThat(reopened.verifyAndExtend(1L, "token-1", 0, 0)).isEqualTo(RefreshTokenStore.Result.VALID);
+        assertThat(reopened.verifyAndExtend(2L, "token-2", 0, 0)).isEqualTo(RefreshTokenStore.Result.NOT_FOUND);
+        assertThat(entries()).isEqualTo(1); // 시작 시 만료된 slot 정리
+    }
+
+    @Test
+    void rejectsFileWithDifferentLayout() throws IOException {
+        MappedRefreshTokenStore store = open(64, 4);
+        store.close();
+        opened.remove(store);
+
+        assertThatThrownBy(() -> open(64, 8)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rejectsTokensThatDoNotFitInSlot() throws IOException {
+        MappedRefreshTokenStore store = open(64, 4);
+
+        assertThatThrownBy(() -> store.save(1L, "x".repeat(48), 60)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.save(1L, "토큰", 60)).isInstanceOf(IllegalArgumentException.class);
+        store.save(1L, "x".repeat(47), 60);
+        assertThat(store.verifyAndExtend(1L, "x".repeat(47), 0, 0)).isEqualTo(RefreshTokenStore.Result.VALID);
+    }
+
+    private MappedRefreshTokenStore open(int capacity, int stripes) throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        MappedRefreshTokenStore store = new MappedRefreshTokenStore(
+                directory.resolve("refresh-tokens.dat").toString(), capacity, stripes, meterRegistry);
+        opened.add(store);
+        return store;
+    }
+
+    private double entries() {
+        return meterRegistry.get("token.store.mapped.entries").gauge().value();
+    }
+}
@@ -0,0 +1,168 @@
+package com.project.security.revocation;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceTest {
+
+    private StringRedisTemplate redisTemplate;
+
+    private ValueOperations<String, String> valueOperations;
+
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+    }
+
+    private TokenRevocationService service(long rotationSeconds) {
+        return new TokenRevocationService(redisTemplate, new SimpleMeterRegistry(), true, 1000, 0.001, rotationSeconds, 1000);
+    }
+
+    private static Claims claims(String subject, long issuedAtMillis) {
+        Claims claims = Jwts.claims().setSubject(subject);
+        claims.setId(UUID.randomUUID().toString());
+        claims.setIssuedAt(new Date(issuedAtMillis));
+        claims.setExpiration(new Date(issuedAtMillis + 60_000));
+        return claims;
+    }
+
+    private static MapRecord<String, Object, Object> record(String id, String entry) {
+        return StreamRecords.<String, Object, Object>mapBacked(Map.of("entry", entry)).withStreamKey("revokedTokens").withId(RecordId.of(id));
+    }
+
+    @Test
+    void tokensNotInBloomFilterSkipRedis() {
+        TokenRevocationService service = service(120);
+        Claims claims = claims("user@test.com", System.currentTimeMillis());
+
+        assertThat(service.mightBeRevoked(claims)).isFalse();
+        assertThat(service.isRevoked(claims)).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void revokedTokenIsConfirmedInRedis() {
+        TokenRevocationService service = service(120);
+        Claims claims = claims("user@test.com", System.currentTimeMillis());
+        when(redisTemplate.hasKey("revokedToken:" + claims.getId())).thenReturn(true);
+
+        service.revoke(claims);
+
+        assertThat(service.mightBeRevoked(claims)).isTrue();
+        assertThat(service.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    void redisFailureOnBloomHitFailsClosed() {
+        TokenRevocationService service = service(120);
+        Claims claims = claims("user@test.com", System.currentTimeMillis());
+        service.revoke(claims);
+        when(redisTemplate.hasKey(anyString())).thenThrow(new IllegalStateException("down"));
+
+        assertThat(service.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    void revokeAllCoversOnlyTokensIssuedBefore() {
+        TokenRevocationService service = service(120);
+        long now = System.currentTimeMillis();
+        Claims before = claims("user@test.com", now - 10_000);
+        Claims after = claims("user@test.com", now + 10_000);
+        when(valueOperations.get("revokedSubject:user@test.com")).thenReturn(String.valueOf(now / 1000));
+
+        service.revokeAll("user@test.com", 60_000);
+
+        assertThat(service.isRevoked(before)).isTrue();
+        assertThat(service.isRevoked(after)).isFalse();
+    }
+
+    @Test
+    void rotationKeepsEntriesForOneGeneration() {
+        TokenRevocationService service = service(0); // sync마다 세대 교체
+        Claims claims = claims("user@test.com", System.currentTimeMillis());
+        service.revoke(claims);
+
+        service.sync();
+        assertThat(service.mightBeRevoked(claims)).isTrue(); // 이전 세대에 남아 있음
+
+        service.sync();
+        assertThat(service.mightBeRevoked(claims)).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void syncStartsFromRotationWindowInsteadOfStreamHead() {
+        long before = System.currentTimeMillis();
+        TokenRevocationService service = service(120);
+        ArgumentCaptor<StreamOffset<String>> offset = ArgumentCaptor.forClass(StreamOffset.class);
+
+        service.sync();
+
+        verify(streamOperations).read(any(StreamReadOptions.class), offset.capture());
+        String id = offset.getValue().getOffset().getOffset();
+        long startMillis = Long.parseLong(id.substring(0, id.indexOf('-')));
+        assertThat(startMillis).isBetween(before - 120_000, System.currentTimeMillis() - 120_000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void syncKeepsReadingWhileBatchesAreFull() {
+        TokenRevocationService service = service(120);
+        long now = System.currentTimeMillis();
+        List<MapRecord<String, Object, Object>> full = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            full.add(record(now + "-" + i, "sub:user" + i + "@test.com"));
+        }
+        when(streamOperations.read(any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(full)
+                .thenReturn(List.of(record(now + "-1000", "sub:last@test.com")))
+                .thenReturn(List.of());
+
+        service.sync(); // 한 번의 sync에서 밀린 항목을 모두 반영
+
+        verify(streamOperations, times(2)).read(any(StreamReadOptions.class), any(StreamOffset.class));
+        assertThat(service.mightBeRevoked(claims("user0@test.com", now))).isTrue();
+        assertThat(service.mightBeRevoked(claims("last@test.com", now))).isTrue();
+    }
+
+    @Test
+    void disabledServiceNeverTouchesRedis() {
+        TokenRevocationService service = new TokenRevocationService(redisTemplate, new SimpleMeterRegistry(), false, 1000, 0.001, 120, 1000);
+        Claims claims = claims("user@test.com", System.currentTimeMillis());
+
+        service.revoke(claims);
+
+        assertThat(service.isRevoked(claims)).isFalse();
+        verify(valueOperations, never()).set(anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.security.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.security.dto.ImportResult;
+import com.project.security.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberImportServiceTest {
+
+    private MemberRepository memberRepository;
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private TransactionStatus transactionStatus;
+    private MemberImportService service;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        transactionStatus = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(any())).thenReturn("encoded");
+        service = new MemberImportService(memberRepository, passwordEncoder, jdbcTemplate, new ObjectMapper(),
+                transactionManager, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void duplicatesAreCheckedWithinChunkAndExistingCheckCoversEarlierChunks() throws Exception {
+        when(memberRepository.findExistingEmails(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of("a@test.com"));
+
+        ImportResult result = service.importMembers(csv(
+                "a@test.com,pw",
+                "a@test.com,pw",
+                "b@test.com,pw",
+                "a@test.com,pw"), true);
+
+        // 두 번째 chunk의 a@test.com은 본문 중복 검사가 아닌 가입 여부 조회에서 걸러짐
+        verify(memberRepository).findExistingEmails(argThat((Collection<String> emails) -> emails.equals(List.of("a@test.com"))));
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::getLine, ImportResult.RowError::getMessage)
+                .containsExactly(
+                        tuple(2L, "중복된 이메일입니다."),
+                        tuple(4L, "이미 가입된 이메일입니다."));
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    void failedBatchIsRolledBackBeforeRowByRowRetry() throws Exception {
+        when(memberRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(jdbcTemplate.update(anyString(), (Object[]) any()))
+                .thenReturn(1)
+                .thenThrow(new DuplicateKeyException("duplicate"));
+
+        ImportResult result = service.importMembers(csv("a@test.com,pw", "b@test.com,pw"), true);
+
+        verify(transactionManager).rollback(transactionStatus);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::getLine, ImportResult.RowError::getMessage)
+                .containsExactly(tuple(2L, "이미 가입된 이메일입니다."));
+    }
+
+    private static ByteArrayInputStream csv(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
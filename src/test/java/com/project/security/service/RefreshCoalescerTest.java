@@ -0,0 +1,149 @@
+package com.project.security.service;
+
+import com.project.security.dto.TokenDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrentRequestsShareOneRefresh() throws Exception {
+        RefreshCoalescer coalescer = new RefreshCoalescer(meterRegistry, 0, 0);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<TokenDto>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> coalescer.execute("user", () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return token("access");
+                })));
+            }
+            // 모든 요청이 leader 또는 follower로 등록될 때까지 대기
+            while (count("leader") + count("follower") < 8) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<TokenDto> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getAccessToken()).isEqualTo("access");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(count("follower")).isEqualTo(7);
+    }
+
+    @Test
+    void recentResultIsReusedWithinTtl() throws Exception {
+        RefreshCoalescer coalescer = new RefreshCoalescer(meterRegistry, 60_000, 100);
+        AtomicInteger loads = new AtomicInteger();
+
+        coalescer.execute("user", () -> token("access-" + loads.incrementAndGet()));
+        TokenDto second = coalescer.execute("user", () -> token("access-" + loads.incrementAndGet()));
+
+        assertThat(second.getAccessToken()).isEqualTo("access-1");
+        assertThat(count("cached")).isEqualTo(1);
+        // 다른 key는 별도로 재발급
+        assertThat(coalescer.execute("other", () -> token("other")).getAccessToken()).isEqualTo("other");
+    }
+
+    @Test
+    void failuresAreNotRemembered() throws Exception {
+        RefreshCoalescer coalescer = new RefreshCoalescer(meterRegistry, 60_000, 100);
+
+        assertThatThrownBy(() -> coalescer.execute("user", () -> {
+            throw new IllegalArgumentException("failure");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(coalescer.execute("user", () -> token("access")).getAccessToken()).isEqualTo("access");
+    }
+
+    @Test
+    void asyncFollowersReceiveLeaderResult() {
+        RefreshCoalescer coalescer = new RefreshCoalescer(meterRegistry, 0, 0);
+        CompletableFuture<TokenDto> loader = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<TokenDto> first = coalescer.executeAsync("user", () -> {
+            loads.incrementAndGet();
+            return loader;
+        });
+        CompletableFuture<TokenDto> second = coalescer.executeAsync("user", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(token("other"));
+        });
+        loader.complete(token("access"));
+
+        assertThat(first.join().getAccessToken()).isEqualTo("access");
+        assertThat(second.join().getAccessToken()).isEqualTo("access");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void asyncFailureIsUnwrappedAndNotRemembered() {
+        RefreshCoalescer coalescer = new RefreshCoalescer(meterRegistry, 60_000, 100);
+
+        CompletableFuture<TokenDto> failed = coalescer.executeAsync("user",
+                () -> CompletableFuture.supplyAsync(() -> {
+                    throw new IllegalArgumentException("failure");
+                }));
+
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(coalescer.executeAsync("user", () -> CompletableFuture.completedFuture(token("access")))
+                .join().getAccessToken()).isEqualTo("access");
+    }
+
+    @Test
+    void evictDropsRecentResultsOfMember() throws Exception {
+        RefreshCoalescer coalescer = new RefreshCoalescer(meterRegistry, 60_000, 100);
+        coalescer.execute("user@test.com:refresh", () -> token("before-logout"));
+        coalescer.execute("other@test.com:refresh", () -> token("other"));
+
+        coalescer.evict("user@test.com");
+
+        assertThat(coalescer.execute("user@test.com:refresh", () -> token("after-logout")).getAccessToken()).isEqualTo("after-logout");
+        assertThat(coalescer.execute("other@test.com:refresh", () -> token("reloaded")).getAccessToken()).isEqualTo("other");
+    }
+
+    @Test
+    void refreshInProgressDuringEvictIsNotRemembered() {
+        RefreshCoalescer coalescer = new RefreshCoalescer(meterRegistry, 60_000, 100);
+        CompletableFuture<TokenDto> loading = new CompletableFuture<>();
+        CompletableFuture<TokenDto> before = coalescer.executeAsync("user@test.com:refresh", () -> loading);
+
+        // 재발급 처리 중 로그아웃
+        coalescer.evict("user@test.com");
+        loading.complete(token("before-logout"));
+
+        assertThat(before.join().getAccessToken()).isEqualTo("before-logout");
+        assertThat(coalescer.executeAsync("user@test.com:refresh", () -> CompletableFuture.completedFuture(token("after-logout")))
+                .join().getAccessToken()).isEqualTo("after-logout");
+    }
+
+    private double count(String role) {
+        return meterRegistry.get("auth.refresh.coalesced").tag("role", role).counter().count();
+    }
+
+    private static TokenDto token(String accessToken) {
+        return TokenDto.builder().accessToken(accessToken).refreshToken("refresh").build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.project.security.service;
+
+import com.project.security.audit.AuditLogWriter;
+import com.project.security.cache.MemberCache;
+import com.project.security.datasource.DataSourceRouting;
+import com.project.security.dto.SignRequest;
+import com.project.security.datasource.ReadYourWritesTracker;
+import com.project.security.entity.Member;
+import com.project.security.jwt.JwtProvider;
+import com.project.security.repository.MemberRepository;
+import com.project.security.repository.RefreshTokenStore;
+import com.project.security.revocation.TokenRevocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SignServiceTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    private MemberRepository memberRepository;
+
+    // 서버 간 공유되는 Redis 대신 사용하는 저장소
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+
+    private StringRedisTemplate redisTemplate;
+
+    // findByEmail 호출 시 Primary 강제 여부 기록
+    private final List<Boolean> primaryLookups = new ArrayList<>();
+
+    // Primary에만 저장된 사용자 (Replica 반영 전)
+    private boolean storedOnPrimary;
+
+    // Replica까지 반영된 사용자
+    private boolean storedOnReplica;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findByEmail(EMAIL)).thenAnswer(invocation -> {
+            boolean primary = DataSourceRouting.isPrimaryForced();
+            primaryLookups.add(primary);
+            return (primary && storedOnPrimary) || storedOnReplica
+                    ? Optional.of(Member.builder().id(1L).email(EMAIL).password("encoded").build())
+                    : Optional.empty();
+        });
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation -> redis.containsKey(invocation.<String>getArgument(0)));
+    }
+
+    @Test
+    void replicaMissDoesNotFallBackToPrimary() {
+        SignService node = node();
+
+        assertThat(node.findMember(EMAIL)).isEmpty();
+        assertThat(primaryLookups).containsExactly(false);
+    }
+
+    @Test
+    void memberJoinedOnThisNodeIsReadFromPrimary() {
+        ReadYourWritesTracker tracker = tracker(true);
+        SignService node = node(tracker);
+        storedOnPrimary = true;
+
+        tracker.markWritten(EMAIL);
+
+        assertThat(node.findMember(EMAIL)).isPresent();
+        assertThat(primaryLookups).containsExactly(true);
+    }
+
+    @Test
+    void memberJoinedOnAnotherNodeIsRetriedOnPrimaryAfterReplicaMiss() {
+        ReadYourWritesTracker joinedNode = tracker(true);
+        SignService loginNode = node();
+        storedOnPrimary = true;
+
+        joinedNode.markWritten(EMAIL);
+
+        assertThat(loginNode.findMember(EMAIL)).isPresent();
+        assertThat(primaryLookups).containsExactly(false, true);
+    }
+
+    @Test
+    void unsharedMarkIsNotVisibleToOtherNodes() {
+        ReadYourWritesTracker joinedNode = tracker(false);
+        SignService loginNode = node(tracker(false));
+        storedOnPrimary = true;
+
+        joinedNode.markWritten(EMAIL);
+
+        assertThat(loginNode.findMember(EMAIL)).isEmpty();
+        assertThat(primaryLookups).containsExactly(false);
+    }
+
+    @Test
+    void redisFailureDoesNotFallBackToPrimary() {
+        when(redisTemplate.hasKey(anyString())).thenThrow(new IllegalStateException("down"));
+        SignService node = node();
+
+        assertThat(node.findMember(EMAIL)).isEmpty();
+        assertThat(primaryLookups).containsExactly(false);
+    }
+
+    @Test
+    void loginContinuationRunsOffHashingThread() {
+        storedOnReplica = true;
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.matches("password", "encoded")).thenReturn(true);
+        PasswordHashingExecutor hashingExecutor = mock(PasswordHashingExecutor.class);
+        when(hashingExecutor.submit(any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+        RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+        List<String> saveThreads = new ArrayList<>();
+        doAnswer(invocation -> saveThreads.add(Thread.currentThread().getName()))
+                .when(refreshTokenStore).save(any(), anyString(), anyLong());
+        ExecutorService ioExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "io-test"));
+        try {
+            SignService node = new SignService(memberRepository, refreshTokenStore, passwordEncoder,
+                    mock(JwtProvider.class), mock(MemberCache.class), hashingExecutor,
+                    mock(PasswordRehashService.class), mock(TokenRevocationService.class), mock(RefreshCoalescer.class),
+                    tracker(true), mock(MemberWriter.class), mock(AuditLogWriter.class));
+            ReflectionTestUtils.setField(node, "ioExecutor", ioExecutor);
+            SignRequest request = new SignRequest();
+            request.setEmail(EMAIL);
+            request.setPassword("password");
+
+            node.login(request).join();
+        } finally {
+            ioExecutor.shutdownNow();
+        }
+
+        // Refresh Token 저장(Redis)은 비밀번호 검증 스레드가 아닌 ioExecutor에서 수행
+        assertThat(saveThreads).containsExactly("io-test");
+    }
+
+    @Test
+    void revokeAllEvictsRecentRefreshResultsAfterDeletingRefreshToken() {
+        storedOnReplica = true;
+        RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+        RefreshCoalescer refreshCoalescer = mock(RefreshCoalescer.class);
+        SignService node = new SignService(memberRepository, refreshTokenStore, mock(PasswordEncoder.class),
+                mock(JwtProvider.class), mock(MemberCache.class), mock(PasswordHashingExecutor.class),
+                mock(PasswordRehashService.class), mock(TokenRevocationService.class), refreshCoalescer,
+                tracker(true), mock(MemberWriter.class), mock(AuditLogWriter.class));
+
+        node.revokeAll(EMAIL);
+
+        // 삭제 전에 제거하면 그 사이의 재발급 결과가 다시 보관될 수 있음
+        InOrder order = inOrder(refreshTokenStore, refreshCoalescer);
+        order.verify(refreshTokenStore).delete(1L);
+        order.verify(refreshCoalescer).evict(EMAIL);
+    }
+
+    private ReadYourWritesTracker tracker(boolean shared) {
+        return new ReadYourWritesTracker(redisTemplate, true, shared, 60_000, 100);
+    }
+
+    private SignService node() {
+        return node(tracker(true));
+    }
+
+    private SignService node(ReadYourWritesTracker tracker) {
+        return new SignService(memberRepository, mock(RefreshTokenStore.class), mock(PasswordEncoder.class),
+                mock(JwtProvider.class), mock(MemberCache.class), mock(PasswordHashingExecutor.class),
+                mock(PasswordRehashService.class), mock(TokenRevocationService.class), mock(RefreshCoalescer.class),
+                tracker, mock(MemberWriter.class), mock(AuditLogWriter.class));
+    }
+}